@@ -0,0 +1,105 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelConfig;
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.metrics.ExcelMetrics;
+import com.dodo.excelgenerator.excelgen.reader.CsvStreamingReader;
+import com.dodo.excelgenerator.excelgen.reader.XlsxStreamingReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+/**
+ * 벤치마크 공통 - 스프링 컨텍스트 없이 서비스 생성
+ * - 설정은 ExcelProperties 기본값 (application.yaml 과 같은 값)
+ * - 같은 파일을 반복해서 파싱하므로 파싱 결과 캐시는 끔
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    static ExcelService excelService(ExcelProperties.ColumnWidthMode columnWidthMode) {
+        ExcelProperties properties = properties();
+        properties.getExport().getColumnWidth().setMode(columnWidthMode);
+        return new ExcelService(new XlsxStreamingReader(), new CsvStreamingReader(),
+                new ParallelSheetParser(properties), new ParseResultCache(properties), properties,
+                new ExcelConfig().columnWidthStrategy(properties), metrics(properties));
+    }
+
+    static TemplateParsingService templateParsingService() {
+        ExcelProperties properties = properties();
+        return new TemplateParsingService(new XlsxStreamingReader(), new CsvStreamingReader(),
+                new TemplatePlanCache(properties), new ParallelSheetParser(properties),
+                new ParseResultCache(properties), metrics(properties));
+    }
+
+    private static ExcelProperties properties() {
+        ExcelProperties properties = new ExcelProperties();
+        properties.getUpload().setResultCacheSize(DataSize.ofBytes(0));
+        return properties;
+    }
+
+    /**
+     * 지표는 메모리 레지스트리에 기록 (기록 비용도 측정에 포함)
+     */
+    private static ExcelMetrics metrics(ExcelProperties properties) {
+        return new ExcelMetrics(new SimpleMeterRegistry(), properties);
+    }
+
+    static MultipartFile upload(String fileName, byte[] content) {
+        return new BytesMultipartFile(fileName, content);
+    }
+
+    /**
+     * 메모리에 있는 업로드 파일
+     */
+    private record BytesMultipartFile(String fileName, byte[] content) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "files";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return fileName;
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/octet-stream";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return content.length == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return content.length;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return content;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.write(dest.toPath(), content);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.reader.CellValueConverter;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 셀 값 문자열 변환 - DOM 파싱 경로에서 셀마다 호출
+ * - converter: CellValueConverter (스타일별 날짜 판단 캐시, 수식 결과 타입으로 분기)
+ * - legacy: 서비스마다 있던 기존 getCellValueAsString (비교 기준으로 벤치마크에만 남김)
+ * - formulas=true 면 4열마다 문자열 결과 수식 셀 (legacy 는 셀마다 예외 발생)
+ * - 셀 CELLS 개를 한 번에 변환, 결과는 셀 하나당 시간
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CellValueBenchmark {
+
+    private static final int CELLS = 10_000;
+    private static final int COLS = 8;
+
+    @Param({"STRING", "NUMERIC", "MIXED"})
+    private SyntheticWorkbook.CellKind cellKind;
+
+    @Param({"false", "true"})
+    private boolean cjk;
+
+    @Param({"false", "true"})
+    private boolean formulas;
+
+    private CellValueConverter converter;
+    private XSSFWorkbook workbook;
+    private List<Cell> cells;
+
+    @Setup
+    public void setUp() {
+        SyntheticWorkbook generator = new SyntheticWorkbook(CELLS / COLS, COLS, cellKind, cjk);
+
+        workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet("Data");
+        CellStyle dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+        FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
+
+        cells = new ArrayList<>(CELLS);
+        for (int r = 0; r < CELLS / COLS; r++) {
+            Row row = sheet.createRow(r);
+            for (int c = 0; c < COLS; c++) {
+                Cell cell = row.createCell(c);
+                if (formulas && c % 4 == 3) {
+                    cell.setCellFormula("CONCATENATE(\"R\"," + (r + 1) + ")");
+                    evaluator.evaluateFormulaCell(cell);
+                } else {
+                    generator.fill(cell, r, c, dateStyle);
+                }
+                cells.add(cell);
+            }
+        }
+        converter = CellValueConverter.forWorkbook(workbook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        workbook.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CELLS)
+    public void converter(Blackhole blackhole) {
+        for (Cell cell : cells) {
+            blackhole.consume(converter.convert(cell));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CELLS)
+    public void legacy(Blackhole blackhole) {
+        for (Cell cell : cells) {
+            blackhole.consume(legacyCellValueAsString(cell));
+        }
+    }
+
+    private static String legacyCellValueAsString(Cell cell) {
+        if (cell == null) {
+            return "";
+        }
+
+        return switch (cell.getCellType()) {
+            case STRING -> cell.getStringCellValue();
+            case NUMERIC -> {
+                if (DateUtil.isCellDateFormatted(cell)) {
+                    yield cell.getLocalDateTimeCellValue().toString();
+                }
+                double value = cell.getNumericCellValue();
+                if (value == Math.floor(value)) {
+                    yield String.valueOf((long) value);
+                }
+                yield String.valueOf(value);
+            }
+            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
+            case FORMULA -> {
+                try {
+                    yield String.valueOf(cell.getNumericCellValue());
+                } catch (Exception e) {
+                    yield cell.getStringCellValue();
+                }
+            }
+            case BLANK -> "";
+            default -> "";
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
+import com.dodo.excelgenerator.excelgen.progress.ProgressListener;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV 가져오기/내보내기 - ParseBenchmark.parseExcel, ExportBenchmark.createExcel 과 같은 데이터로 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvBenchmark {
+
+    @Param({"1000", "50000"})
+    private int rows;
+
+    @Param({"10"})
+    private int cols;
+
+    @Param({"STRING", "MIXED"})
+    private SyntheticWorkbook.CellKind cellKind;
+
+    @Param({"false", "true"})
+    private boolean cjk;
+
+    private ExcelService excelService;
+    private MultipartFile csvFile;
+    private ExcelResponseDto data;
+
+    @Setup
+    public void setUp() {
+        excelService = BenchmarkSupport.excelService(ExcelProperties.ColumnWidthMode.SAMPLED);
+        SyntheticWorkbook workbook = new SyntheticWorkbook(rows, cols, cellKind, cjk);
+        csvFile = BenchmarkSupport.upload("generic.csv", workbook.toCsv(','));
+        data = workbook.toData("export.csv");
+    }
+
+    @Benchmark
+    public ExcelResponseDto parseCsv() throws IOException {
+        return excelService.parseExcel(csvFile);
+    }
+
+    @Benchmark
+    public byte[] writeCsv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        excelService.writeCsv(data, out, ',', ProgressListener.NONE);
+        return out.toByteArray();
+    }
+}
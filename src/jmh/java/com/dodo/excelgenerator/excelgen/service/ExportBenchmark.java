@@ -0,0 +1,46 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다운로드 엑셀 생성 (createExcel) - 컬럼 너비 계산 방식별 (sampled / autosize)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExportBenchmark {
+
+    @Param({"1000", "50000"})
+    private int rows;
+
+    @Param({"10"})
+    private int cols;
+
+    @Param({"STRING", "MIXED"})
+    private SyntheticWorkbook.CellKind cellKind;
+
+    @Param({"false", "true"})
+    private boolean cjk;
+
+    @Param({"SAMPLED", "AUTOSIZE"})
+    private ExcelProperties.ColumnWidthMode columnWidthMode;
+
+    private ExcelService excelService;
+    private ExcelResponseDto data;
+
+    @Setup
+    public void setUp() {
+        excelService = BenchmarkSupport.excelService(columnWidthMode);
+        data = new SyntheticWorkbook(rows, cols, cellKind, cjk).toData("export.xlsx");
+    }
+
+    @Benchmark
+    public byte[] createExcel() throws IOException {
+        return excelService.createExcel(data);
+    }
+}
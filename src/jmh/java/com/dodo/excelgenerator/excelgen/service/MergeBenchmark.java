@@ -0,0 +1,54 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 병합 - 기존 데이터에 같은 구조의 파일 하나를 이어 붙임
+ * - mergeData: 기존 데이터 복사본 + 새 행 (전체 결과 생성)
+ * - appendRows: 새 행만 만들어 저장소 구간으로 추가하는 업로드 경로 (기존 데이터 크기와 무관해야 함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MergeBenchmark {
+
+    @Param({"1000", "50000"})
+    private int rows;
+
+    @Param({"10"})
+    private int cols;
+
+    @Param({"STRING", "MIXED"})
+    private SyntheticWorkbook.CellKind cellKind;
+
+    @Param({"false", "true"})
+    private boolean cjk;
+
+    private ExcelService excelService;
+    private ExcelResponseDto base;
+    private ExcelResponseDto newData;
+
+    @Setup
+    public void setUp() {
+        excelService = BenchmarkSupport.excelService(ExcelProperties.ColumnWidthMode.SAMPLED);
+        SyntheticWorkbook workbook = new SyntheticWorkbook(rows, cols, cellKind, cjk);
+        base = workbook.toData("base.xlsx");
+        newData = workbook.toData("new.xlsx");
+    }
+
+    @Benchmark
+    public ExcelResponseDto mergeData() {
+        return excelService.mergeData(base, newData);
+    }
+
+    @Benchmark
+    public ExcelResponseDto appendRows() {
+        MergeAccumulator merger = excelService.startMerge(base);
+        merger.tryAppend(newData);
+        return merger.buildAppended();
+    }
+}
@@ -0,0 +1,74 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다중 파일 병합 - 같은 구조의 파일 files 개를 하나로 합침 (업로드 한 번에 여러 파일)
+ * - accumulator: 지금 업로드 경로 (MergeAccumulator 에 파일마다 이어 붙이고 마지막에 한 번만 결과 생성)
+ * - copyPerFile: 이전 업로드 경로 (파일마다 지금까지의 행 전체를 새 리스트로 복사, O(파일 수 × 전체 행))
+ *   - 이전에는 행을 List&lt;List&lt;String&gt;&gt; 로 들고 있었으므로 파싱된 행 리스트를 미리 만들어 두고 복사 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MultiFileMergeBenchmark {
+
+    @Param({"50"})
+    private int files;
+
+    @Param({"10000"})
+    private int rows;
+
+    @Param({"10"})
+    private int cols;
+
+    private ExcelService excelService;
+    private List<ExcelResponseDto> uploads;
+    private List<List<List<String>>> rowLists;
+
+    @Setup
+    public void setUp() {
+        excelService = BenchmarkSupport.excelService(ExcelProperties.ColumnWidthMode.SAMPLED);
+        SyntheticWorkbook workbook = new SyntheticWorkbook(rows, cols, SyntheticWorkbook.CellKind.MIXED, false);
+        uploads = new ArrayList<>(files);
+        rowLists = new ArrayList<>(files);
+        for (int i = 0; i < files; i++) {
+            ExcelResponseDto upload = workbook.toData("file" + i + ".xlsx");
+            uploads.add(upload);
+            List<List<String>> parsedRows = new ArrayList<>(upload.getTotalRows());
+            for (List<String> row : upload.getRows()) {
+                parsedRows.add(new ArrayList<>(row));
+            }
+            rowLists.add(parsedRows);
+        }
+    }
+
+    @Benchmark
+    public ExcelResponseDto accumulator() {
+        MergeAccumulator merger = excelService.startMerge(null);
+        // 첫 파일은 그대로 기준 테이블이 되어 뒤 파일이 붙으므로, 반복 측정을 위해 복사본으로 시작 (파일 하나 분량)
+        ExcelResponseDto first = uploads.get(0);
+        merger.tryAppend(ExcelResponseDto.of(first.getTable().copy(), first.getFileName()));
+        for (int i = 1; i < files; i++) {
+            merger.tryAppend(uploads.get(i));
+        }
+        return merger.build();
+    }
+
+    @Benchmark
+    public List<List<String>> copyPerFile() {
+        List<List<String>> merged = rowLists.get(0);
+        for (int i = 1; i < files; i++) {
+            List<List<String>> next = new ArrayList<>(merged);
+            next.addAll(rowLists.get(i));
+            merged = next;
+        }
+        return merged;
+    }
+}
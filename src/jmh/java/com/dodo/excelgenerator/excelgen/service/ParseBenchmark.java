@@ -0,0 +1,58 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
+import com.dodo.excelgenerator.excelgen.dto.TemplateConfigDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 파싱 - 일반 엑셀(parseExcel), 템플릿 엑셀(parseTemplate)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParseBenchmark {
+
+    @Param({"1000", "50000"})
+    private int rows;
+
+    @Param({"10"})
+    private int cols;
+
+    @Param({"STRING", "MIXED"})
+    private SyntheticWorkbook.CellKind cellKind;
+
+    @Param({"false", "true"})
+    private boolean cjk;
+
+    private ExcelService excelService;
+    private TemplateParsingService templateParsingService;
+    private TemplateConfigDto templateConfig;
+    private MultipartFile genericFile;
+    private MultipartFile templateFile;
+
+    @Setup
+    public void setUp() {
+        excelService = BenchmarkSupport.excelService(ExcelProperties.ColumnWidthMode.SAMPLED);
+        templateParsingService = BenchmarkSupport.templateParsingService();
+        templateConfig = TemplateConfigDto.defaultConfig();
+
+        SyntheticWorkbook workbook = new SyntheticWorkbook(rows, cols, cellKind, cjk);
+        genericFile = BenchmarkSupport.upload("generic.xlsx", workbook.toXlsx());
+        templateFile = BenchmarkSupport.upload("template.xlsx", workbook.toTemplateXlsx(templateConfig));
+    }
+
+    @Benchmark
+    public ExcelResponseDto parseExcel() throws IOException {
+        return excelService.parseExcel(genericFile);
+    }
+
+    @Benchmark
+    public ExcelResponseDto parseTemplate() throws IOException {
+        return templateParsingService.parseTemplate(templateFile, templateConfig);
+    }
+}
@@ -0,0 +1,55 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ExcelQueryDto;
+import com.dodo.excelgenerator.excelgen.table.ExcelTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회 - 저장된 테이블에 필터(숫자 범위) + 중복 제거(반복 값 2열) + 정렬(2키)
+ * - query: 같은 테이블에 반복 조회 (컬럼 색인 재사용, 색인 이후로는 int 배열만 다룸)
+ * - queryAfterUpdate: 셀 하나를 고친 뒤 조회 (사용하는 컬럼 색인을 다시 만드는 비용 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QueryBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    @Param({"10"})
+    private int cols;
+
+    private ExcelService excelService;
+    private ExcelTable table;
+    private ExcelQueryDto query;
+    private int updates;
+
+    @Setup
+    public void setUp() {
+        excelService = BenchmarkSupport.excelService(ExcelProperties.ColumnWidthMode.SAMPLED);
+        SyntheticWorkbook workbook = new SyntheticWorkbook(rows, cols, SyntheticWorkbook.CellKind.MIXED, false);
+        table = workbook.toData("query.xlsx").getTable();
+
+        // MIXED: 0, 4 열은 반복 문자열, 1 열은 정수, 2 열은 실수
+        query = new ExcelQueryDto();
+        query.setFilters(List.of(new ExcelQueryDto.Filter(1, ExcelQueryDto.FilterOp.GE, String.valueOf(rows / 2 * 1_000L))));
+        query.setDistinct(List.of(0, 4));
+        query.setSort(List.of(new ExcelQueryDto.Sort(4, false), new ExcelQueryDto.Sort(2, true)));
+    }
+
+    @Benchmark
+    public int[] query() {
+        return excelService.query(table, query);
+    }
+
+    @Benchmark
+    public int[] queryAfterUpdate() {
+        table.set(0, 3, String.valueOf(updates++));
+        return excelService.query(table, query);
+    }
+}
@@ -0,0 +1,230 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
+import com.dodo.excelgenerator.excelgen.dto.TemplateConfigDto;
+import com.dodo.excelgenerator.excelgen.table.ExcelTable;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 벤치마크용 합성 워크북 생성기
+ * - 행 수, 열 수, 셀 타입, CJK 문자열 여부를 지정
+ * - 값은 (행, 열) 로 정해지므로 같은 설정이면 항상 같은 워크북
+ * - 문자열은 작은 후보 목록에서 골라 실제 업로드처럼 값이 반복되게 함
+ */
+final class SyntheticWorkbook {
+
+    enum CellKind {
+        STRING,     // 모든 셀 문자열
+        NUMERIC,    // 모든 셀 숫자 (정수/실수)
+        MIXED       // 열마다 문자열/정수/실수/날짜 번갈아
+    }
+
+    private static final String[] ASCII_WORDS = {
+            "alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel",
+            "india", "juliet", "kilo", "lima", "mike", "november", "oscar", "papa"
+    };
+
+    private static final String[] CJK_WORDS = {
+            "김민준", "이서연", "박지훈", "최수아", "영업부", "개발팀", "인사팀", "재무팀",
+            "東京支社", "大阪営業所", "北京分公司", "上海办事处", "사원", "대리", "과장", "부장"
+    };
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+
+    private final int rows;
+    private final int cols;
+    private final CellKind kind;
+    private final String[] words;
+
+    SyntheticWorkbook(int rows, int cols, CellKind kind, boolean cjk) {
+        this.rows = rows;
+        this.cols = cols;
+        this.kind = kind;
+        this.words = cjk ? CJK_WORDS : ASCII_WORDS;
+    }
+
+    /**
+     * 일반 엑셀 - 첫 행 헤더, 이후 데이터 행
+     */
+    byte[] toXlsx() {
+        return write(sheet -> {
+            CellStyle dateStyle = dateStyle(sheet.getWorkbook());
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < cols; c++) {
+                header.createCell(c).setCellValue(header(c));
+            }
+            for (int r = 0; r < rows; r++) {
+                Row row = sheet.createRow(r + 1);
+                for (int c = 0; c < cols; c++) {
+                    fill(row.createCell(c), r, c, dateStyle);
+                }
+            }
+        });
+    }
+
+    /**
+     * 템플릿 엑셀 - 피벗 셀(회사/코드) + 왼쪽/오른쪽 테이블 (각 config.colCount 열)
+     */
+    byte[] toTemplateXlsx(TemplateConfigDto config) {
+        return write(sheet -> {
+            CellStyle dateStyle = dateStyle(sheet.getWorkbook());
+            int dataStartRow = config.getDataStartRow();
+            int colCount = config.getColCount();
+
+            for (int r = 0; r <= dataStartRow + rows; r++) {
+                Row row = sheet.createRow(r);
+                if (r == config.getCompanyRow()) {
+                    row.createCell(config.getCompanyCol()).setCellValue(words[0]);
+                }
+                if (r == config.getCodeRow()) {
+                    row.createCell(config.getCodeCol()).setCellValue("C-0001");
+                }
+                if (r < dataStartRow) {
+                    continue;
+                }
+                for (int c = 0; c < colCount; c++) {
+                    Cell left = row.createCell(config.getLeftTableStartCol() + c);
+                    Cell right = row.createCell(config.getRightTableStartCol() + c);
+                    if (r == dataStartRow) {
+                        left.setCellValue(header(c));
+                        right.setCellValue(header(colCount + c));
+                    } else {
+                        fill(left, r - dataStartRow - 1, c, dateStyle);
+                        fill(right, r - dataStartRow - 1, colCount + c, dateStyle);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 같은 내용의 CSV/TSV (UTF-8)
+     */
+    byte[] toCsv(char delimiter) {
+        StringBuilder sb = new StringBuilder();
+        for (int c = 0; c < cols; c++) {
+            sb.append(c > 0 ? String.valueOf(delimiter) : "").append(header(c));
+        }
+        sb.append("\r\n");
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                sb.append(c > 0 ? String.valueOf(delimiter) : "").append(text(r, c));
+            }
+            sb.append("\r\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 파싱이 끝난 상태의 데이터 (병합/다운로드 벤치마크용)
+     */
+    ExcelResponseDto toData(String fileName) {
+        List<String> headers = new ArrayList<>(cols);
+        for (int c = 0; c < cols; c++) {
+            headers.add(header(c));
+        }
+        ExcelTable table = new ExcelTable(headers);
+        List<String> row = new ArrayList<>(cols);
+        for (int r = 0; r < rows; r++) {
+            row.clear();
+            for (int c = 0; c < cols; c++) {
+                row.add(text(r, c));
+            }
+            table.appendRow(row);
+        }
+        return ExcelResponseDto.of(table, fileName);
+    }
+
+    /**
+     * 셀 하나 채우기 - 셀 타입 설정에 따라 문자열/숫자/날짜
+     */
+    void fill(Cell cell, int r, int c, CellStyle dateStyle) {
+        switch (columnKind(c)) {
+            case 0 -> cell.setCellValue(word(r, c));
+            case 1 -> cell.setCellValue(longValue(r, c));
+            case 2 -> cell.setCellValue(doubleValue(r, c));
+            default -> {
+                cell.setCellValue(dateValue(r));
+                cell.setCellStyle(dateStyle);
+            }
+        }
+    }
+
+    private String text(int r, int c) {
+        return switch (columnKind(c)) {
+            case 0 -> word(r, c);
+            case 1 -> String.valueOf(longValue(r, c));
+            case 2 -> String.valueOf(doubleValue(r, c));
+            default -> dateValue(r).toString();
+        };
+    }
+
+    /**
+     * 0: 문자열, 1: 정수, 2: 실수, 3: 날짜
+     */
+    private int columnKind(int c) {
+        return switch (kind) {
+            case STRING -> 0;
+            case NUMERIC -> 1 + (c % 2);
+            case MIXED -> c % 4;
+        };
+    }
+
+    private String header(int c) {
+        return words[c % words.length] + "_" + c;
+    }
+
+    private String word(int r, int c) {
+        // 앞 절반 열은 반복 값(부서/직급 같은 열), 나머지는 행마다 다른 값
+        String word = words[(r * 31 + c * 7) % words.length];
+        return c < cols / 2 ? word : word + " " + r;
+    }
+
+    private static long longValue(int r, int c) {
+        return (long) r * 1_000 + c;
+    }
+
+    private static double doubleValue(int r, int c) {
+        return r + c / 100.0 + 0.5;
+    }
+
+    private static LocalDateTime dateValue(int r) {
+        return BASE_DATE.plusDays(r % 3650).atStartOfDay();
+    }
+
+    private static CellStyle dateStyle(Workbook workbook) {
+        CellStyle style = workbook.createCellStyle();
+        style.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+        return style;
+    }
+
+    private static byte[] write(Consumer<Sheet> writer) {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            try {
+                writer.accept(workbook.createSheet("Data"));
+                workbook.write(out);
+            } finally {
+                workbook.dispose();
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.dodo.excelgenerator.excelgen.config;
+
+import com.dodo.excelgenerator.excelgen.writer.AutoSizeColumnWidthStrategy;
+import com.dodo.excelgenerator.excelgen.writer.ColumnWidthStrategy;
+import com.dodo.excelgenerator.excelgen.writer.SampledColumnWidthStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 엑셀 처리 관련 빈 설정
+ */
+@Configuration
+public class ExcelConfig {
+
+    /**
+     * 컬럼 너비 계산 전략 (excel.export.column-width.mode)
+     */
+    @Bean
+    public ColumnWidthStrategy columnWidthStrategy(ExcelProperties excelProperties) {
+        ExcelProperties.ColumnWidth columnWidth = excelProperties.getExport().getColumnWidth();
+        return switch (columnWidth.getMode()) {
+            case AUTOSIZE -> new AutoSizeColumnWidthStrategy(columnWidth.getMinChars(), columnWidth.getMaxChars());
+            case SAMPLED -> new SampledColumnWidthStrategy(columnWidth.getSampleSize(), columnWidth.getPercentile(),
+                    columnWidth.getMinChars(), columnWidth.getMaxChars());
+        };
+    }
+}
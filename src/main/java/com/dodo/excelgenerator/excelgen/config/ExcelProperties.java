@@ -0,0 +1,138 @@
+package com.dodo.excelgenerator.excelgen.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 엑셀 처리 설정 (application.yaml 의 excel.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "excel")
+public class ExcelProperties {
+
+    private final Upload upload = new Upload();
+    private final Template template = new Template();
+    private final Job job = new Job();
+    private final Progress progress = new Progress();
+    private final Export export = new Export();
+    private final Store store = new Store();
+    private final View view = new View();
+    private final Convert convert = new Convert();
+
+    /**
+     * 업로드(파싱) 설정
+     */
+    @Getter
+    @Setter
+    public static class Upload {
+
+        private int parallelism = 0;        // 동시에 파싱할 최대 파일 수 (0 이하면 CPU 코어 수)
+        private int sheetParallelism = 0;   // 한 파일 안에서 동시에 파싱할 최대 시트 수 (0 이하면 CPU 코어 수)
+        private DataSize resultCacheSize = DataSize.ofMegabytes(128);  // 파싱 결과 캐시 크기 한도 (0 이면 캐시 안 함)
+    }
+
+    /**
+     * 템플릿 파싱 설정
+     */
+    @Getter
+    @Setter
+    public static class Template {
+
+        private long planCacheSize = 256;   // 캐시할 템플릿 추출 계획(설정 조합) 최대 수
+    }
+
+    /**
+     * 비동기 가져오기 작업 설정
+     */
+    @Getter
+    @Setter
+    public static class Job {
+
+        private int concurrency = 2;                        // 동시에 실행할 작업 수
+        private int queueCapacity = 8;                      // 대기할 수 있는 작업 수 (넘으면 거절)
+        private Duration retention = Duration.ofMinutes(10); // 끝난 작업 상태 보관 시간
+    }
+
+    /**
+     * 진행 상황(SSE) 설정
+     */
+    @Getter
+    @Setter
+    public static class Progress {
+
+        private Duration publishInterval = Duration.ofMillis(250);  // 진행 상황 전송 간격
+        private Duration emitterTimeout = Duration.ofMinutes(30);   // SSE 연결 유지 시간 (끊기면 브라우저가 다시 연결)
+    }
+
+    /**
+     * 엑셀 생성(다운로드) 설정
+     */
+    @Getter
+    @Setter
+    public static class Export {
+
+        private int streamingThreshold = 10_000;   // 이 행 수를 넘으면 SXSSF 스트리밍 워크북 사용
+        private int rowAccessWindow = 100;         // SXSSF 가 메모리에 유지하는 행 수
+        private boolean compressTempFiles = true;  // SXSSF 임시 파일 gzip 압축
+        private final ColumnWidth columnWidth = new ColumnWidth();
+    }
+
+    /**
+     * 컬럼 너비 계산 설정
+     */
+    @Getter
+    @Setter
+    public static class ColumnWidth {
+
+        private ColumnWidthMode mode = ColumnWidthMode.SAMPLED;
+        private int sampleSize = 1000;  // sampled 모드에서 측정할 최대 행 수
+        private int percentile = 100;   // sampled 모드 기준 백분위 (100 = 최댓값)
+        private int minChars = 15;      // 최소 너비 (문자 수)
+        private int maxChars = 50;      // 최대 너비 (문자 수)
+    }
+
+    /**
+     * 세션 데이터 저장소 설정
+     */
+    @Getter
+    @Setter
+    public static class Store {
+
+        private DataSize memoryBudget = DataSize.ofMegabytes(256);  // 메모리에 둘 테이블 합계 한도
+        private String spillDir = "";                                // 한도 초과 시 내릴 경로 (비우면 임시 폴더)
+        private int compactSegments = 8;                             // 추가 업로드 구간이 이만큼 쌓이면 백그라운드에서 합침
+    }
+
+    /**
+     * 화면 테이블 설정
+     */
+    @Getter
+    @Setter
+    public static class View {
+
+        private int maxPageSize = 500;  // 행 조회 API 한 번에 돌려줄 최대 행 수
+    }
+
+    /**
+     * 변환(업로드 → 다운로드 스트리밍) 설정
+     */
+    @Getter
+    @Setter
+    public static class Convert {
+
+        private int concurrency = 2;        // 동시에 실행할 변환 수 (넘으면 거절)
+        private int queueCapacity = 16;     // 읽기/쓰기 사이 큐에 둘 수 있는 행 묶음 수 (가득 차면 읽기 대기)
+        private int batchRows = 256;        // 큐에 한 번에 넘기는 행 수
+        private Duration stallTimeout = Duration.ofMinutes(2);  // 다운로드가 이 시간 동안 진행되지 않으면 읽기 중단
+    }
+
+    public enum ColumnWidthMode {
+        SAMPLED,    // 샘플 문자 길이 기반 추정
+        AUTOSIZE    // POI autoSizeColumn (AWT 폰트 측정)
+    }
+}
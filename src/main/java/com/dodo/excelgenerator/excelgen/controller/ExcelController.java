@@ -1,20 +1,38 @@
 package com.dodo.excelgenerator.excelgen.controller;
 
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ExcelPageDto;
+import com.dodo.excelgenerator.excelgen.dto.ExcelPatchDto;
+import com.dodo.excelgenerator.excelgen.dto.ExcelQueryDto;
 import com.dodo.excelgenerator.excelgen.dto.ExcelRequestDto;
 import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
+import com.dodo.excelgenerator.excelgen.dto.ImportJobDto;
 import com.dodo.excelgenerator.excelgen.dto.TemplateConfigDto;
+import com.dodo.excelgenerator.excelgen.job.ImportJob;
+import com.dodo.excelgenerator.excelgen.job.ImportJobService;
+import com.dodo.excelgenerator.excelgen.progress.ProgressHub;
+import com.dodo.excelgenerator.excelgen.progress.ProgressTracker;
+import com.dodo.excelgenerator.excelgen.reader.SheetSelection;
+import com.dodo.excelgenerator.excelgen.repository.ExcelDataHandle;
+import com.dodo.excelgenerator.excelgen.repository.ExcelRepository;
+import com.dodo.excelgenerator.excelgen.service.ConvertService;
 import com.dodo.excelgenerator.excelgen.service.ExcelService;
+import com.dodo.excelgenerator.excelgen.service.MergeAccumulator;
 import com.dodo.excelgenerator.excelgen.service.TemplateParsingService;
+import com.dodo.excelgenerator.excelgen.table.ExcelTable;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.io.IOException;
@@ -22,6 +40,9 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
 @Slf4j
 @Controller
@@ -31,25 +52,25 @@ public class ExcelController {
 
     private final ExcelService excelService;
     private final TemplateParsingService templateParsingService;
+    private final ImportJobService importJobService;
+    private final ConvertService convertService;
+    private final ExcelRepository excelRepository;
+    private final ProgressHub progressHub;
+    private final ExcelProperties excelProperties;
 
-    private static final String SESSION_KEY = "excelData";
     private static final String CONFIG_KEY = "templateConfig";
+    private static final String IMPORT_RUNNING = "업로드 작업이 진행 중입니다. 끝난 뒤 다시 시도해주세요.";
 
     /**
      * 메인 페이지
      */
     @GetMapping
     public String home(HttpSession session, Model model) {
-        ExcelResponseDto data = (ExcelResponseDto) session.getAttribute(SESSION_KEY);
-        if (data == null) {
-            data = ExcelResponseDto.empty();
-        }
+        // 헤더와 행 수만 (행은 화면이 /rows 로 요청)
+        ExcelPageDto data = readPage(session, 0, 0);
 
         // 템플릿 설정 (없으면 기본값)
-        TemplateConfigDto config = (TemplateConfigDto) session.getAttribute(CONFIG_KEY);
-        if (config == null) {
-            config = TemplateConfigDto.defaultConfig();
-        }
+        TemplateConfigDto config = templateConfig(session);
 
         model.addAttribute("excelData", data);
         model.addAttribute("config", config);
@@ -65,6 +86,7 @@ public class ExcelController {
      */
     @PostMapping("/upload-multiple")
     public String uploadMultiple(@RequestParam("files") List<MultipartFile> files,
+                                 @RequestParam(value = "sheets", defaultValue = "") String sheets,
                                  HttpSession session,
                                  RedirectAttributes redirectAttributes) {
 
@@ -84,53 +106,23 @@ public class ExcelController {
             return "redirect:/excel";
         }
 
-        int successCount = 0;
-        int failCount = 0;
-        List<String> failedFiles = new ArrayList<>();
-        ExcelResponseDto mergedData = (ExcelResponseDto) session.getAttribute(SESSION_KEY);
-
-        for (MultipartFile file : validFiles) {
-            try {
-                ExcelResponseDto newData = excelService.parseExcel(file);
-
-                if (mergedData == null || mergedData.getHeaders().isEmpty()) {
-                    // 첫 번째 파일 - 기준 데이터로 설정
-                    mergedData = newData;
-                    successCount++;
-                } else {
-                    // 이후 파일들 - 헤더 검증 후 병합
-                    if (excelService.validateHeaders(mergedData.getHeaders(), newData.getHeaders())) {
-                        mergedData = excelService.mergeData(mergedData, newData);
-                        successCount++;
-                    } else {
-                        failCount++;
-                        failedFiles.add(file.getOriginalFilename() + " (컬럼 불일치)");
-                    }
-                }
-            } catch (IOException e) {
-                log.error("파일 처리 실패: {}", file.getOriginalFilename(), e);
-                failCount++;
-                failedFiles.add(file.getOriginalFilename() + " (처리 오류)");
-            }
-        }
-
-        // 세션에 저장
-        if (mergedData != null && !mergedData.getHeaders().isEmpty()) {
-            session.setAttribute(SESSION_KEY, mergedData);
+        SheetSelection selection;
+        try {
+            selection = SheetSelection.parse(sheets);
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+            return "redirect:/excel";
         }
 
-        // 결과 메시지 생성
-        StringBuilder message = new StringBuilder();
-        message.append(String.format("✅ %d개 파일 병합 완료 (총 %d행)",
-                successCount, mergedData != null ? mergedData.getTotalRows() : 0));
-
-        if (failCount > 0) {
-            message.append(String.format("\n⚠️ %d개 파일 실패", failCount));
-            redirectAttributes.addFlashAttribute("failedFiles", failedFiles);
+        // 병렬 파싱 후 업로드 순서대로 병합 (헤더 불일치 파일/시트는 제외)
+        try {
+            ImportJob job = importJobService.run(dataKey(session), ImportJob.Mode.GENERIC, validFiles, null, selection);
+            addResultMessage(job, redirectAttributes);
+        } catch (IllegalStateException e) {
+            // 같은 세션의 업로드가 진행 중
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
         }
 
-        redirectAttributes.addFlashAttribute("message", message.toString());
-
         return "redirect:/excel";
     }
 
@@ -149,25 +141,31 @@ public class ExcelController {
 
         try {
             ExcelResponseDto newData = excelService.parseExcel(file);
-            ExcelResponseDto existingData = (ExcelResponseDto) session.getAttribute(SESSION_KEY);
+            ExcelResponseDto existingData = loadData(session);
 
             if (existingData == null || existingData.getHeaders().isEmpty()) {
                 // 첫 번째 파일 업로드
-                session.setAttribute(SESSION_KEY, newData);
+                saveData(session, newData);
                 redirectAttributes.addFlashAttribute("message",
                         "파일이 업로드되었습니다. (" + newData.getTotalRows() + "행)");
             } else {
-                // 추가 파일 업로드 - 헤더 검증 후 병합
-                if (excelService.validateHeaders(existingData.getHeaders(), newData.getHeaders())) {
-                    ExcelResponseDto mergedData = excelService.mergeData(existingData, newData);
-                    session.setAttribute(SESSION_KEY, mergedData);
-                    redirectAttributes.addFlashAttribute("message",
-                            "데이터가 병합되었습니다. (총 " + mergedData.getTotalRows() + "행)");
-                } else {
-                    redirectAttributes.addFlashAttribute("error",
-                            "컬럼 구조가 다릅니다. 같은 형식의 파일을 업로드해주세요.");
+                // 추가 파일 업로드 - 헤더 검증 후 새 행만 기존 데이터 뒤에 추가
+                try {
+                    MergeAccumulator merger = excelService.startMerge(existingData);
+                    if (merger.tryAppend(newData)) {
+                        appendData(session, merger.buildAppended());
+                        redirectAttributes.addFlashAttribute("message",
+                                "데이터가 병합되었습니다. (총 " + merger.getTotalRows() + "행)");
+                    } else {
+                        redirectAttributes.addFlashAttribute("error",
+                                "컬럼 구조가 다릅니다. 같은 형식의 파일을 업로드해주세요.");
+                    }
+                } finally {
+                    excelRepository.release(existingData);
                 }
             }
+        } catch (IllegalStateException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
         } catch (IOException e) {
             log.error("파일 업로드 실패", e);
             redirectAttributes.addFlashAttribute("error", "파일 처리 중 오류가 발생했습니다.");
@@ -217,6 +215,7 @@ public class ExcelController {
      */
     @PostMapping("/upload-template")
     public String uploadTemplate(@RequestParam("files") List<MultipartFile> files,
+                                 @RequestParam(value = "sheets", defaultValue = "") String sheets,
                                  HttpSession session,
                                  RedirectAttributes redirectAttributes) {
 
@@ -231,54 +230,26 @@ public class ExcelController {
                 .filter(f -> !f.isEmpty())
                 .toList();
 
-        // 템플릿 설정 가져오기
-        TemplateConfigDto config = (TemplateConfigDto) session.getAttribute(CONFIG_KEY);
-        if (config == null) {
-            config = TemplateConfigDto.defaultConfig();
-        }
-
-        int successCount = 0;
-        int failCount = 0;
-        List<String> failedFiles = new ArrayList<>();
-        ExcelResponseDto mergedData = (ExcelResponseDto) session.getAttribute(SESSION_KEY);
-
-        for (MultipartFile file : validFiles) {
-            try {
-                ExcelResponseDto newData = templateParsingService.parseTemplate(file, config);
-
-                if (mergedData == null || mergedData.getHeaders().isEmpty()) {
-                    // 첫 번째 파일
-                    mergedData = newData;
-                } else {
-                    // 이후 파일들 병합 (헤더는 동일하므로 바로 병합)
-                    mergedData = excelService.mergeData(mergedData, newData);
-                }
-                successCount++;
-
-            } catch (IOException e) {
-                log.error("파일 처리 실패: {}", file.getOriginalFilename(), e);
-                failCount++;
-                failedFiles.add(file.getOriginalFilename() + " (처리 오류)");
-            }
-        }
-
-        // 세션에 저장
-        if (mergedData != null && !mergedData.getHeaders().isEmpty()) {
-            session.setAttribute(SESSION_KEY, mergedData);
+        SheetSelection selection;
+        try {
+            selection = SheetSelection.parse(sheets);
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+            return "redirect:/excel";
         }
 
-        // 결과 메시지
-        StringBuilder message = new StringBuilder();
-        message.append(String.format("✅ %d개 파일 파싱 완료 (총 %d행)",
-                successCount, mergedData != null ? mergedData.getTotalRows() : 0));
+        // 템플릿 설정 가져오기
+        TemplateConfigDto config = templateConfig(session);
 
-        if (failCount > 0) {
-            message.append(String.format("\n⚠️ %d개 파일 실패", failCount));
-            redirectAttributes.addFlashAttribute("failedFiles", failedFiles);
+        // 병렬 파싱 후 업로드 순서대로 병합
+        try {
+            ImportJob job = importJobService.run(dataKey(session), ImportJob.Mode.TEMPLATE, validFiles, config, selection);
+            addResultMessage(job, redirectAttributes);
+        } catch (IllegalStateException e) {
+            // 같은 세션의 업로드가 진행 중
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
         }
 
-        redirectAttributes.addFlashAttribute("message", message.toString());
-
         return "redirect:/excel";
     }
 
@@ -292,10 +263,155 @@ public class ExcelController {
         return "redirect:/excel";
     }
 
+    // ===================================================================
+    // 비동기 업로드 (작업 ID 를 바로 반환하고 진행 상태는 폴링)
+    // ===================================================================
+
+    /**
+     * 비동기 업로드 등록 (AJAX) - mode: GENERIC(일반 엑셀), TEMPLATE(템플릿 파싱)
+     * - sheets: 읽을 시트 (비우면 첫 시트, * 전체, 1,3-5 번호, name:이름 은 이름 그대로, 그 외 이름 정규식)
+     */
+    @PostMapping("/jobs")
+    @ResponseBody
+    public ResponseEntity<?> submitJob(@RequestParam("files") List<MultipartFile> files,
+                                       @RequestParam(value = "mode", defaultValue = "GENERIC") ImportJob.Mode mode,
+                                       @RequestParam(value = "sheets", defaultValue = "") String sheets,
+                                       HttpSession session) {
+        List<MultipartFile> validFiles = files == null ? List.of() : files.stream()
+                .filter(f -> !f.isEmpty())
+                .toList();
+        if (validFiles.isEmpty()) {
+            return ResponseEntity.badRequest().body("파일을 선택해주세요.");
+        }
+
+        TemplateConfigDto config = mode == ImportJob.Mode.TEMPLATE ? templateConfig(session) : null;
+        try {
+            ImportJob job = importJobService.submit(dataKey(session), mode, validFiles, config, SheetSelection.parse(sheets));
+            return ResponseEntity.accepted().body(job.toDto());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("처리 중인 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        } catch (IOException e) {
+            log.error("업로드 파일 저장 실패", e);
+            return ResponseEntity.internalServerError().body("파일 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 비동기 업로드 진행 상태 (AJAX)
+     */
+    @GetMapping("/jobs/{jobId}")
+    @ResponseBody
+    public ResponseEntity<ImportJobDto> jobStatus(@PathVariable("jobId") String jobId, HttpSession session) {
+        return importJobService.find(jobId, dataKey(session))
+                .map(job -> ResponseEntity.ok(job.toDto()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 진행 상황 스트림 (SSE)
+     * - 이 세션의 가져오기/다운로드 작업이 읽은 행, 기록한 행, 내보낸 바이트를 주기적으로 전송
+     */
+    @GetMapping(value = "/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter progress(HttpSession session) {
+        return progressHub.subscribe(dataKey(session));
+    }
+
     // ===================================================================
     // 공통 기능 (수정, 다운로드, 초기화)
     // ===================================================================
 
+    /**
+     * 테이블 행 구간 조회 (AJAX)
+     * - 화면은 스크롤 위치에 보이는 행만 요청 (전체 행을 HTML 로 렌더링하지 않음)
+     * - 저장소 잠금 안에서 그 행만 복사 (스냅샷을 만들지 않으므로 스크롤한 뒤에도 수정은 고친 만큼만 비용)
+     */
+    @GetMapping("/rows")
+    @ResponseBody
+    public ExcelPageDto rows(@RequestParam(value = "offset", defaultValue = "0") int offset,
+                             @RequestParam(value = "limit", defaultValue = "100") int limit,
+                             HttpSession session) {
+        int pageSize = Math.min(Math.max(limit, 0), excelProperties.getView().getMaxPageSize());
+        return readPage(session, offset, pageSize);
+    }
+
+    /**
+     * 정렬/필터/중복 제거 미리보기 (AJAX) - 결과 중 offset 부터 limit 행
+     * - 저장된 데이터는 바꾸지 않음 (화면은 /rows 대신 이 결과로 스크롤)
+     */
+    @PostMapping("/query")
+    @ResponseBody
+    public ResponseEntity<?> query(@RequestBody ExcelQueryDto request, HttpSession session) {
+        ExcelResponseDto data = loadData(session);
+        if (data == null) {
+            return ResponseEntity.badRequest().body("저장된 데이터가 없습니다.");
+        }
+
+        ExcelTable table = data.getTable();
+        int[] rows;
+        int from;
+        List<List<String>> page;
+        try {
+            rows = excelService.query(table, request);
+
+            int pageSize = Math.min(Math.max(request.getLimit(), 0), excelProperties.getView().getMaxPageSize());
+            from = Math.min(Math.max(request.getOffset(), 0), rows.length);
+            int to = Math.min(rows.length, from + pageSize);
+            // 스냅샷을 놓은 뒤 응답을 쓰므로 행 값은 복사
+            page = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                page.add(new ArrayList<>(table.getRow(rows[i])));
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } finally {
+            excelRepository.release(data);
+        }
+        // 새로 만든 컬럼 색인을 메모리 합계에 반영
+        excelRepository.refreshSize(dataKey(session));
+
+        return ResponseEntity.ok(ExcelPageDto.builder()
+                .offset(from)
+                .totalRows(rows.length)
+                .headers(table.getHeaders())
+                .rows(page)
+                .build());
+    }
+
+    /**
+     * 정렬/필터/중복 제거 결과를 저장된 데이터로 교체 (AJAX)
+     * - 조회와 교체를 저장소 잠금 안에서 한 번에 (그 사이의 수정/추가를 잃지 않음)
+     */
+    @PostMapping("/query/apply")
+    @ResponseBody
+    public ResponseEntity<String> applyQuery(@RequestBody ExcelQueryDto request, HttpSession session) {
+        if (importRunning(session)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(IMPORT_RUNNING);
+        }
+        int[] counts = new int[2];   // 적용 전, 후 행 수
+        try {
+            boolean updated = updateData(session, table -> {
+                int[] rows = excelService.query(table, request);
+                counts[0] = table.getRowCount();
+                counts[1] = rows.length;
+                table.retainRows(rows);
+            });
+            if (!updated) {
+                return ResponseEntity.badRequest().body("저장된 데이터가 없습니다.");
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("조회 적용 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
+        return ResponseEntity.ok(String.format("적용되었습니다. (%d행 → %d행)", counts[0], counts[1]));
+    }
+
     /**
      * 테이블 데이터 수정 (AJAX)
      */
@@ -303,36 +419,141 @@ public class ExcelController {
     @ResponseBody
     public ResponseEntity<String> update(@RequestBody ExcelRequestDto request,
                                          HttpSession session) {
-        ExcelResponseDto data = ExcelResponseDto.builder()
-                .headers(request.getHeaders())
-                .rows(request.getRows())
-                .totalRows(request.getRows().size())
-                .fileName("merged_data")
-                .build();
+        if (importRunning(session)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(IMPORT_RUNNING);
+        }
+        ExcelTable table = ExcelTable.of(request.getHeaders(), request.getRows());
+        ExcelResponseDto data = ExcelResponseDto.of(table, "merged_data");
 
-        session.setAttribute(SESSION_KEY, data);
+        saveData(session, data);
         return ResponseEntity.ok("저장되었습니다.");
     }
 
     /**
-     * 엑셀 파일 다운로드
+     * 테이블 부분 수정 (AJAX)
+     * - 바뀐 셀/행/열만 받아 저장된 테이블에 제자리 반영 (요청 크기가 테이블 크기와 무관)
+     * - 하나라도 잘못된 수정이 있으면 아무것도 반영하지 않고 400
+     * - 같은 세션의 업로드 작업이 진행 중이면 409 (작업이 끝난 뒤 다시 저장)
+     */
+    @PostMapping("/patch")
+    @ResponseBody
+    public ResponseEntity<String> patch(@RequestBody ExcelPatchDto request,
+                                        HttpSession session) {
+        if (request.getOperations() == null || request.getOperations().isEmpty()) {
+            return ResponseEntity.ok("변경사항이 없습니다.");
+        }
+        if (importRunning(session)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(IMPORT_RUNNING);
+        }
+
+        try {
+            if (!updateData(session, table -> excelService.applyPatch(table, request.getOperations()))) {
+                return ResponseEntity.badRequest().body("저장된 데이터가 없습니다.");
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("부분 수정 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
+        return ResponseEntity.ok("저장되었습니다. (" + request.getOperations().size() + "건)");
+    }
+
+    /**
+     * 파일 다운로드 (format: xlsx, csv, tsv)
+     * - 응답 스트림에 바로 기록 (byte[] 로 모으지 않음)
+     * - csv/tsv 는 POI 를 거치지 않고 텍스트로 바로 기록
      */
     @GetMapping("/download")
-    public ResponseEntity<byte[]> download(HttpSession session) throws IOException {
-        ExcelResponseDto data = (ExcelResponseDto) session.getAttribute(SESSION_KEY);
+    public ResponseEntity<StreamingResponseBody> download(@RequestParam(value = "format", defaultValue = "xlsx") String format,
+                                                          HttpSession session) {
+        MediaType contentType = contentType(format);
+        if (contentType == null) {
+            return ResponseEntity.badRequest().build();
+        }
 
+        ExcelResponseDto data = loadData(session);
         if (data == null || data.getRows().isEmpty()) {
+            excelRepository.release(data);
+            return ResponseEntity.badRequest().build();
+        }
+
+        String fileName = URLEncoder.encode("merged_excel_data." + format, StandardCharsets.UTF_8);
+        String dataKey = dataKey(session);
+
+        StreamingResponseBody body = out -> {
+            long start = System.currentTimeMillis();
+            int totalRows = data.getTotalRows();
+            try (ProgressTracker tracker = progressHub.start(dataKey, "export")) {
+                switch (format) {
+                    case "csv" -> excelService.writeCsv(data, out, ',', tracker);
+                    case "tsv" -> excelService.writeCsv(data, out, '\t', tracker);
+                    default -> excelService.writeExcel(data, out, tracker);
+                }
+            } finally {
+                // 다 썼으면 스냅샷을 놓아서 다음 수정이 컬럼을 복사하지 않도록
+                excelRepository.release(data);
+            }
+            log.info("다운로드 완료 ({}) - {}행, {}ms", format, totalRows, System.currentTimeMillis() - start);
+        };
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(contentType)
+                .body(body);
+    }
+
+    /**
+     * 변환 다운로드 - 업로드 파일들을 세션 데이터에 저장하지 않고 바로 하나의 파일로 내려받음
+     * - mode: GENERIC(일반 엑셀), TEMPLATE(템플릿 파싱) / sheets: 업로드와 같음 / format: xlsx, csv, tsv
+     * - 읽기와 쓰기가 크기가 정해진 큐로 이어져 있어 파일이 크거나 많아도 메모리 사용량이 일정 (ConvertService)
+     */
+    @PostMapping("/convert")
+    public ResponseEntity<StreamingResponseBody> convert(@RequestParam("files") List<MultipartFile> files,
+                                                         @RequestParam(value = "mode", defaultValue = "GENERIC") ImportJob.Mode mode,
+                                                         @RequestParam(value = "sheets", defaultValue = "") String sheets,
+                                                         @RequestParam(value = "format", defaultValue = "xlsx") String format,
+                                                         HttpSession session) {
+        List<MultipartFile> validFiles = files == null ? List.of() : files.stream()
+                .filter(f -> !f.isEmpty())
+                .toList();
+        MediaType contentType = contentType(format);
+        if (validFiles.isEmpty() || contentType == null) {
             return ResponseEntity.badRequest().build();
         }
 
-        byte[] excelBytes = excelService.createExcel(data);
-        String fileName = URLEncoder.encode("merged_excel_data.xlsx", StandardCharsets.UTF_8);
+        SheetSelection selection;
+        try {
+            selection = SheetSelection.parse(sheets);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        TemplateConfigDto config = mode == ImportJob.Mode.TEMPLATE ? templateConfig(session) : null;
+        ProgressTracker tracker = progressHub.start(dataKey(session), "convert");
+        ConvertService.Conversion conversion;
+        try {
+            conversion = convertService.start(validFiles, config, selection, tracker);
+        } catch (RejectedExecutionException e) {
+            tracker.close();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        String fileName = URLEncoder.encode("converted_excel_data." + format, StandardCharsets.UTF_8);
+
+        // 업로드 파일은 비동기 응답이 끝난 뒤에 정리되므로 스트리밍 중에도 읽을 수 있음
+        StreamingResponseBody body = out -> {
+            long start = System.currentTimeMillis();
+            try (tracker) {
+                conversion.writeTo(format, out, tracker);
+            }
+            log.info("변환 다운로드 완료 ({}, {}) - {}개 파일, {}ms", mode, format, validFiles.size(),
+                    System.currentTimeMillis() - start);
+        };
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .contentLength(excelBytes.length)
-                .body(excelBytes);
+                .contentType(contentType)
+                .body(body);
     }
 
     /**
@@ -340,8 +561,136 @@ public class ExcelController {
      */
     @PostMapping("/clear")
     public String clear(HttpSession session, RedirectAttributes redirectAttributes) {
-        session.removeAttribute(SESSION_KEY);
+        if (importRunning(session)) {
+            redirectAttributes.addFlashAttribute("error", IMPORT_RUNNING);
+            return "redirect:/excel";
+        }
+        clearData(session);
         redirectAttributes.addFlashAttribute("message", "데이터가 초기화되었습니다.");
         return "redirect:/excel";
     }
-}
\ No newline at end of file
+
+    // ===================================================================
+    // 세션 데이터 (세션에는 핸들만, 테이블은 ExcelRepository)
+    // ===================================================================
+
+    private ExcelResponseDto loadData(HttpSession session) {
+        ExcelDataHandle handle = (ExcelDataHandle) session.getAttribute(ExcelDataHandle.SESSION_KEY);
+        if (handle == null) {
+            return null;
+        }
+        return excelRepository.findById(handle.getKey()).orElse(null);
+    }
+
+    /**
+     * 저장된 데이터의 offset 부터 limit 행 (잠금 안에서 바로 읽어 값만 복사 - 스냅샷을 만들지 않음)
+     * - 스크롤마다 스냅샷을 만들면 다음 수정이 컬럼 전체를 복사하게 됨
+     */
+    private ExcelPageDto readPage(HttpSession session, int offset, int limit) {
+        ExcelDataHandle handle = (ExcelDataHandle) session.getAttribute(ExcelDataHandle.SESSION_KEY);
+        Optional<ExcelPageDto> page = handle == null
+                ? Optional.empty()
+                : excelRepository.read(handle.getKey(), table -> page(table, offset, limit));
+        return page.orElseGet(() -> ExcelPageDto.builder()
+                .headers(List.of())
+                .rows(List.of())
+                .build());
+    }
+
+    private static ExcelPageDto page(ExcelTable table, int offset, int limit) {
+        int totalRows = table.getRowCount();
+        int from = Math.min(Math.max(offset, 0), totalRows);
+        int to = Math.min(totalRows, from + Math.max(limit, 0));
+        List<List<String>> rows = new ArrayList<>(to - from);
+        for (int row = from; row < to; row++) {
+            rows.add(new ArrayList<>(table.getRow(row)));
+        }
+        return ExcelPageDto.builder()
+                .offset(from)
+                .totalRows(totalRows)
+                .headers(new ArrayList<>(table.getHeaders()))
+                .rows(rows)
+                .build();
+    }
+
+    private void saveData(HttpSession session, ExcelResponseDto data) {
+        excelRepository.save(dataKey(session), data);
+    }
+
+    /**
+     * 저장된 데이터 뒤에 행 추가 (기존 테이블은 다시 만들지 않음)
+     */
+    private void appendData(HttpSession session, ExcelResponseDto rows) {
+        excelRepository.append(dataKey(session), rows);
+    }
+
+    /**
+     * 세션의 데이터 키 (없으면 생성)
+     */
+    private String dataKey(HttpSession session) {
+        ExcelDataHandle handle = (ExcelDataHandle) session.getAttribute(ExcelDataHandle.SESSION_KEY);
+        if (handle == null) {
+            handle = new ExcelDataHandle(session.getId());
+            session.setAttribute(ExcelDataHandle.SESSION_KEY, handle);
+        }
+        return handle.getKey();
+    }
+
+    private boolean updateData(HttpSession session, Consumer<ExcelTable> updater) {
+        ExcelDataHandle handle = (ExcelDataHandle) session.getAttribute(ExcelDataHandle.SESSION_KEY);
+        return handle != null && excelRepository.update(handle.getKey(), updater);
+    }
+
+    /**
+     * 이 세션의 업로드 작업이 진행 중인지 - 진행 중에는 저장된 데이터를 수정/교체/삭제하지 않음
+     * (확인 직후 시작한 작업과 겹치면 작업 결과를 붙일 때 헤더 비교로 맞추거나 거절)
+     */
+    private boolean importRunning(HttpSession session) {
+        ExcelDataHandle handle = (ExcelDataHandle) session.getAttribute(ExcelDataHandle.SESSION_KEY);
+        return handle != null && importJobService.isRunning(handle.getKey());
+    }
+
+    private void clearData(HttpSession session) {
+        ExcelDataHandle handle = (ExcelDataHandle) session.getAttribute(ExcelDataHandle.SESSION_KEY);
+        if (handle != null) {
+            excelRepository.deleteById(handle.getKey());
+            session.removeAttribute(ExcelDataHandle.SESSION_KEY);
+        }
+    }
+
+    /**
+     * 템플릿 설정 (없으면 기본값)
+     */
+    private TemplateConfigDto templateConfig(HttpSession session) {
+        TemplateConfigDto config = (TemplateConfigDto) session.getAttribute(CONFIG_KEY);
+        return config != null ? config : TemplateConfigDto.defaultConfig();
+    }
+
+    /**
+     * 업로드 결과 메시지
+     */
+    private void addResultMessage(ImportJob job, RedirectAttributes redirectAttributes) {
+        // 실패한 파일 + 성공한 파일 안에서 제외된 시트
+        List<String> failedFiles = job.getFailedFiles();
+        if (!failedFiles.isEmpty()) {
+            redirectAttributes.addFlashAttribute("failedFiles", failedFiles);
+        }
+        if (job.getStatus() == ImportJob.Status.FAILED) {
+            redirectAttributes.addFlashAttribute("error", job.getMessage());
+        } else {
+            redirectAttributes.addFlashAttribute("message", job.getMessage());
+        }
+    }
+
+    /**
+     * 다운로드 형식별 Content-Type (지원하지 않으면 null)
+     */
+    private MediaType contentType(String format) {
+        return switch (format) {
+            case "xlsx" -> MediaType.APPLICATION_OCTET_STREAM;
+            case "csv" -> new MediaType("text", "csv", StandardCharsets.UTF_8);
+            case "tsv" -> new MediaType("text", "tab-separated-values", StandardCharsets.UTF_8);
+            default -> null;
+        };
+    }
+}
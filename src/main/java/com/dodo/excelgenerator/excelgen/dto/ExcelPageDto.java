@@ -0,0 +1,23 @@
+package com.dodo.excelgenerator.excelgen.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 화면 테이블용 행 구간 응답 - offset 부터 최대 limit 행
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExcelPageDto {
+
+    private int offset;                     // 첫 행 번호 (0-based)
+    private int totalRows;                  // 전체 행 수
+    private List<String> headers;           // 컬럼명
+    private List<List<String>> rows;        // offset 부터의 행들
+}
@@ -0,0 +1,46 @@
+package com.dodo.excelgenerator.excelgen.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 엑셀 부분 수정 요청 - 바뀐 부분만 순서대로 전송
+ * - 행/열 번호는 앞선 수정이 반영된 상태 기준 (0-based, 열 번호는 헤더 기준)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExcelPatchDto {
+
+    private List<Operation> operations;     // 수정 목록 (순서대로 반영)
+
+    /**
+     * 수정 하나
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Operation {
+
+        private OperationType type;
+        private int row;                    // SET, INSERT_ROW, DELETE_ROW
+        private int col;                    // SET, ADD_COLUMN, DELETE_COLUMN, MOVE_COLUMN, RENAME_COLUMN
+        private int to;                     // MOVE_COLUMN 목적지
+        private String value;               // SET 값
+        private String name;                // ADD_COLUMN, RENAME_COLUMN 열 이름
+        private List<String> values;        // INSERT_ROW 행 값
+    }
+
+    public enum OperationType {
+        SET,            // 셀 값 수정
+        INSERT_ROW,     // 행 삽입
+        DELETE_ROW,     // 행 삭제
+        ADD_COLUMN,     // 열 추가
+        DELETE_COLUMN,  // 열 삭제
+        MOVE_COLUMN,    // 열 이동
+        RENAME_COLUMN   // 열 이름 변경
+    }
+}
@@ -0,0 +1,61 @@
+package com.dodo.excelgenerator.excelgen.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 저장된 테이블 조회 요청 - 필터(모두 만족) → 중복 제거 → 정렬 순서로 적용
+ * - 열 번호는 헤더 기준 (0-based)
+ * - offset/limit 은 결과 중 화면에 보낼 구간 (적용할 때는 사용하지 않음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExcelQueryDto {
+
+    private List<Filter> filters;           // 필터 목록 (모두 만족하는 행)
+    private List<Integer> distinct;         // 중복 제거 키 열 (값이 모두 같으면 처음 행만)
+    private List<Sort> sort;                // 정렬 키 (앞 키 우선)
+    private int offset;
+    private int limit = 100;
+
+    /**
+     * 필터 하나
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Filter {
+
+        private int col;
+        private FilterOp op;
+        private String value;               // EMPTY, NOT_EMPTY 는 사용하지 않음
+    }
+
+    /**
+     * 정렬 키 하나 - 빈 값은 방향과 관계없이 마지막
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Sort {
+
+        private int col;
+        private boolean descending;
+    }
+
+    public enum FilterOp {
+        EQ,         // 같음 (정확히)
+        NE,         // 다름
+        CONTAINS,   // 포함 (대소문자 무시)
+        GT,         // 초과 (숫자는 크기, 문자는 사전순)
+        GE,         // 이상
+        LT,         // 미만
+        LE,         // 이하
+        EMPTY,      // 빈 값
+        NOT_EMPTY   // 빈 값 아님
+    }
+}
@@ -1,15 +1,16 @@
 package com.dodo.excelgenerator.excelgen.dto;
 
+import com.dodo.excelgenerator.excelgen.table.ExcelTable;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 엑셀 데이터 담기용 Dto - 헤더와 행 데이터 저장
+ * - 실제 데이터는 컬럼 기반 ExcelTable 에 저장하고, headers/rows 는 복사 없는 뷰로 제공
  */
 @Data
 @Builder
@@ -17,17 +18,38 @@ import java.util.List;
 @AllArgsConstructor
 public class ExcelResponseDto {
 
-    private List<String> headers;           // 첫 번째 행 (컬럼명)
-    private List<List<String>> rows;        // 데이터 행들
-    private int totalRows;                  // 전체 행 수
+    private ExcelTable table;               // 헤더 + 데이터 (컬럼 기반)
     private String fileName;                // 원본 파일명
 
-    public static ExcelResponseDto empty() {
+    public static ExcelResponseDto of(ExcelTable table, String fileName) {
         return ExcelResponseDto.builder()
-                .headers(new ArrayList<>())
-                .rows(new ArrayList<>())
-                .totalRows(0)
-                .fileName("")
+                .table(table)
+                .fileName(fileName)
                 .build();
     }
-}
\ No newline at end of file
+
+    public static ExcelResponseDto empty() {
+        return of(ExcelTable.empty(), "");
+    }
+
+    /**
+     * 첫 번째 행 (컬럼명)
+     */
+    public List<String> getHeaders() {
+        return table.getHeaders();
+    }
+
+    /**
+     * 데이터 행들 (읽기 전용 뷰)
+     */
+    public List<List<String>> getRows() {
+        return table.rows();
+    }
+
+    /**
+     * 전체 행 수
+     */
+    public int getTotalRows() {
+        return table.getRowCount();
+    }
+}
@@ -0,0 +1,30 @@
+package com.dodo.excelgenerator.excelgen.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 가져오기 작업 진행 상태 응답
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobDto {
+
+    private String jobId;
+    private String mode;                    // GENERIC, TEMPLATE
+    private String status;                  // QUEUED, RUNNING, DONE, FAILED
+    private int totalFiles;                 // 전체 파일 수
+    private int filesDone;                  // 처리 끝난 파일 수 (성공 + 실패)
+    private int successCount;
+    private int failCount;
+    private long rowsParsed;                // 파싱된 행 수 (병합된 파일 기준)
+    private int totalRows;                  // 병합 결과 전체 행 수 (완료 시)
+    private List<String> failedFiles;       // 실패한 파일, 제외된 시트와 사유
+    private String message;                 // 완료 메시지 (완료 전에는 null)
+}
@@ -0,0 +1,28 @@
+package com.dodo.excelgenerator.excelgen.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 진행 상황 이벤트 (SSE 로 전송)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressEventDto {
+
+    private String operationId;
+    private String operation;               // import-generic, import-template, export 등
+    private long rowsRead;                  // 시트에서 읽은 행 수
+    private long rowsWritten;               // 워크북에 기록한 행 수
+    private long bytesWritten;              // 응답으로 내보낸 바이트 수
+    private long elapsedMs;                 // 시작 후 경과 시간
+    private long idleMs;                    // 마지막 진행 후 경과 시간 (멈춘 작업 확인용)
+    private List<String> skipped;           // 건너뛴 파일/시트와 사유
+    private boolean done;
+}
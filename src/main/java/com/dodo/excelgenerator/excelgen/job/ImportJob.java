@@ -0,0 +1,136 @@
+package com.dodo.excelgenerator.excelgen.job;
+
+import com.dodo.excelgenerator.excelgen.dto.ImportJobDto;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가져오기(업로드 파싱 + 병합) 작업 하나의 진행 상태
+ * - 작업 스레드가 갱신하고 요청 스레드가 읽으므로 카운터는 atomic, 나머지는 volatile/동기화
+ */
+@Getter
+public class ImportJob {
+
+    private final String id = UUID.randomUUID().toString();
+    private final String dataKey;           // 결과를 저장할 ExcelRepository 키
+    private final Mode mode;
+    private final int totalFiles;
+    private final Instant createdAt = Instant.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant finishedAt;
+    private volatile int totalRows;         // 병합 결과 전체 행 수 (완료 시)
+    private volatile String error;          // 작업 자체가 실패한 경우 사유
+    private volatile int skippedSheets;     // 성공한 파일 안에서 병합하지 못한 시트 수
+
+    private final AtomicInteger filesDone = new AtomicInteger();
+    private final AtomicInteger successCount = new AtomicInteger();
+    private final AtomicLong rowsParsed = new AtomicLong();
+    private final List<String> failedFiles = new ArrayList<>();
+
+    ImportJob(String dataKey, Mode mode, int totalFiles) {
+        this.dataKey = dataKey;
+        this.mode = mode;
+        this.totalFiles = totalFiles;
+    }
+
+    public boolean isFinished() {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+
+    public int getFailCount() {
+        return filesDone.get() - successCount.get();
+    }
+
+    public synchronized List<String> getFailedFiles() {
+        return List.copyOf(failedFiles);
+    }
+
+    /**
+     * 결과 메시지 (동기 업로드의 flash 메시지와 같은 형식)
+     */
+    public String getMessage() {
+        if (status == Status.FAILED) {
+            return "❌ 처리 중 오류가 발생했습니다. (" + error + ")";
+        }
+        StringBuilder message = new StringBuilder();
+        message.append(String.format("✅ %d개 파일 %s 완료 (총 %d행)",
+                successCount.get(), mode == Mode.TEMPLATE ? "파싱" : "병합", totalRows));
+        if (getFailCount() > 0) {
+            message.append(String.format("\n⚠️ %d개 파일 실패", getFailCount()));
+        }
+        if (skippedSheets > 0) {
+            message.append(String.format("\n⚠️ %d개 시트 제외", skippedSheets));
+        }
+        return message.toString();
+    }
+
+    /**
+     * 상태 스냅샷 (JSON 응답용)
+     */
+    public ImportJobDto toDto() {
+        return ImportJobDto.builder()
+                .jobId(id)
+                .mode(mode.name())
+                .status(status.name())
+                .totalFiles(totalFiles)
+                .filesDone(filesDone.get())
+                .successCount(successCount.get())
+                .failCount(getFailCount())
+                .rowsParsed(rowsParsed.get())
+                .totalRows(totalRows)
+                .failedFiles(getFailedFiles())
+                .message(isFinished() ? getMessage() : null)
+                .build();
+    }
+
+    void start() {
+        status = Status.RUNNING;
+    }
+
+    void fileSucceeded(int rows) {
+        rowsParsed.addAndGet(rows);
+        successCount.incrementAndGet();
+        filesDone.incrementAndGet();
+    }
+
+    synchronized void fileFailed(String reason) {
+        failedFiles.add(reason);
+        filesDone.incrementAndGet();
+    }
+
+    /**
+     * 파일 안의 일부 시트만 병합하지 못함 - 실패 목록에만 남기고 파일 성공/실패 수는 그대로
+     */
+    synchronized void sheetSkipped(String reason) {
+        failedFiles.add(reason);
+        skippedSheets++;
+    }
+
+    void complete(int totalRows) {
+        this.totalRows = totalRows;
+        this.finishedAt = Instant.now();
+        this.status = Status.DONE;
+    }
+
+    void fail(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = Status.FAILED;
+    }
+
+    public enum Mode {
+        GENERIC,    // 일반 엑셀 (헤더 검증 후 병합)
+        TEMPLATE    // 템플릿 파싱
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, DONE, FAILED
+    }
+}
@@ -0,0 +1,278 @@
+package com.dodo.excelgenerator.excelgen.job;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
+import com.dodo.excelgenerator.excelgen.dto.TemplateConfigDto;
+import com.dodo.excelgenerator.excelgen.metrics.ExcelMetrics;
+import com.dodo.excelgenerator.excelgen.progress.ProgressHub;
+import com.dodo.excelgenerator.excelgen.progress.ProgressTracker;
+import com.dodo.excelgenerator.excelgen.reader.SheetSelection;
+import com.dodo.excelgenerator.excelgen.repository.ExcelRepository;
+import com.dodo.excelgenerator.excelgen.service.ExcelService;
+import com.dodo.excelgenerator.excelgen.service.MergeAccumulator;
+import com.dodo.excelgenerator.excelgen.service.ParallelFileParser;
+import com.dodo.excelgenerator.excelgen.service.TemplateParsingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가져오기(업로드 파싱 + 병합) 작업 서비스
+ * - submit: 업로드를 임시 파일로 옮긴 뒤 작업 스레드에서 처리하고 바로 작업 ID 반환
+ * - run: 같은 처리를 요청 스레드에서 바로 실행 (기존 동기 업로드, 작업 목록에는 똑같이 등록)
+ * - 동시에 실행/대기할 수 있는 작업 수를 제한해서 힙 사용량을 묶어 둠
+ * - 세션(데이터 키)마다 진행 중인 작업은 하나만 허용 (결과 저장이 서로 덮어쓰지 않도록)
+ */
+@Slf4j
+@Service
+public class ImportJobService implements DisposableBean {
+
+    private final ExcelService excelService;
+    private final TemplateParsingService templateParsingService;
+    private final ParallelFileParser parallelFileParser;
+    private final ExcelRepository excelRepository;
+    private final ProgressHub progressHub;
+    private final ExcelMetrics excelMetrics;
+
+    private final ThreadPoolExecutor executor;
+    private final Duration retention;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(ExcelService excelService,
+                            TemplateParsingService templateParsingService,
+                            ParallelFileParser parallelFileParser,
+                            ExcelRepository excelRepository,
+                            ProgressHub progressHub,
+                            ExcelMetrics excelMetrics,
+                            ExcelProperties excelProperties) {
+        this.excelService = excelService;
+        this.templateParsingService = templateParsingService;
+        this.parallelFileParser = parallelFileParser;
+        this.excelRepository = excelRepository;
+        this.progressHub = progressHub;
+        this.excelMetrics = excelMetrics;
+
+        ExcelProperties.Job job = excelProperties.getJob();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("excel-job-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(job.getConcurrency(), job.getConcurrency(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(job.getQueueCapacity(), 1)), threadFactory);
+        this.retention = job.getRetention();
+        log.info("가져오기 작업 - 동시 실행: {}, 대기 한도: {}", job.getConcurrency(), job.getQueueCapacity());
+    }
+
+    /**
+     * 비동기 작업 등록
+     *
+     * @throws IllegalStateException     같은 세션의 작업이 아직 진행 중
+     * @throws RejectedExecutionException 대기 중인 작업이 너무 많음
+     */
+    public ImportJob submit(String dataKey, ImportJob.Mode mode, List<MultipartFile> files,
+                            TemplateConfigDto config, SheetSelection sheets) throws IOException {
+        purgeFinished();
+        if (findRunning(dataKey).isPresent()) {
+            throw new IllegalStateException("이전 업로드 작업이 아직 진행 중입니다.");
+        }
+
+        // 요청이 끝나면 업로드 파일이 지워지므로 먼저 복사
+        List<StoredUpload> stored = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile file : files) {
+                stored.add(StoredUpload.copyOf(file));
+            }
+        } catch (IOException e) {
+            stored.forEach(StoredUpload::delete);
+            throw e;
+        }
+
+        ImportJob job = new ImportJob(dataKey, mode, files.size());
+        try {
+            // 복사하는 동안 같은 세션의 작업이 등록되었을 수 있으므로 다시 확인
+            register(job);
+        } catch (IllegalStateException e) {
+            stored.forEach(StoredUpload::delete);
+            throw e;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    execute(job, List.copyOf(stored), config, sheets);
+                } finally {
+                    stored.forEach(StoredUpload::delete);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            stored.forEach(StoredUpload::delete);
+            throw e;
+        }
+
+        log.info("가져오기 작업 등록 - {} ({}, {}개 파일)", job.getId(), mode, files.size());
+        return job;
+    }
+
+    /**
+     * 요청 스레드에서 바로 실행
+     * - 비동기 작업과 같이 등록하므로 같은 세션의 작업이 진행 중이면 실행하지 않음
+     *
+     * @throws IllegalStateException 같은 세션의 작업이 아직 진행 중
+     */
+    public ImportJob run(String dataKey, ImportJob.Mode mode, List<MultipartFile> files,
+                         TemplateConfigDto config, SheetSelection sheets) {
+        purgeFinished();
+        ImportJob job = new ImportJob(dataKey, mode, files.size());
+        register(job);
+        try {
+            execute(job, files, config, sheets);
+        } finally {
+            // execute 밖으로 오류가 나가도 끝난 작업으로 남겨서 세션이 막히지 않도록
+            if (!job.isFinished()) {
+                job.fail("가져오기 중 오류가 발생했습니다.");
+            }
+        }
+        return job;
+    }
+
+    /**
+     * 같은 세션(데이터 키)의 작업이 진행 중인지 - 진행 중에는 화면 수정을 받지 않음
+     * (작업은 시작할 때 읽은 데이터에 병합해서 끝날 때 붙이므로)
+     */
+    public boolean isRunning(String dataKey) {
+        return findRunning(dataKey).isPresent();
+    }
+
+    /**
+     * 작업 조회 (다른 세션의 작업은 보이지 않음)
+     */
+    public Optional<ImportJob> find(String jobId, String dataKey) {
+        ImportJob job = jobs.get(jobId);
+        return job != null && job.getDataKey().equals(dataKey) ? Optional.of(job) : Optional.empty();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 파일들을 병렬로 파싱하고 업로드 순서(파일 안에서는 시트 순서)대로 기존 데이터에 병합한 뒤 저장
+     * - 파일 안의 시트가 하나라도 병합되면 그 파일은 성공, 병합하지 못한 시트는 실패 목록에만 남김
+     */
+    private void execute(ImportJob job, List<MultipartFile> files, TemplateConfigDto config, SheetSelection sheets) {
+        job.start();
+        long start = System.nanoTime();
+        String mode = job.getMode() == ImportJob.Mode.TEMPLATE ? ExcelMetrics.MODE_TEMPLATE : ExcelMetrics.MODE_GENERIC;
+        ExcelResponseDto existingData = null;
+        try (ProgressTracker tracker = progressHub.start(job.getDataKey(), "import-" + mode)) {
+            existingData = excelRepository.findById(job.getDataKey()).orElse(null);
+            MergeAccumulator merger = excelService.startMerge(existingData);
+
+            ParallelFileParser.FileParser<List<ExcelResponseDto>> parser = job.getMode() == ImportJob.Mode.TEMPLATE
+                    ? file -> templateParsingService.parseTemplateSheets(file, config, sheets, tracker)
+                    : file -> excelService.parseSheets(file, sheets, tracker);
+            List<Future<List<ExcelResponseDto>>> parsed = parallelFileParser.parseAll(files, parser);
+
+            for (int i = 0; i < files.size(); i++) {
+                MultipartFile file = files.get(i);
+                try {
+                    List<ExcelResponseDto> sheetData = ParallelFileParser.await(parsed.get(i));
+                    if (sheetData.isEmpty()) {
+                        job.fileFailed(file.getOriginalFilename() + " (선택한 시트 없음)");
+                        continue;
+                    }
+
+                    List<String> skipped = new ArrayList<>();
+                    int rows = 0;
+                    for (ExcelResponseDto newData : sheetData) {
+                        // 일반 엑셀은 기준 헤더와 컬럼 구성이 같아야 병합 (순서가 다르면 기준 순서로 맞춤)
+                        // 템플릿은 헤더 구성이 같으므로 바로 병합
+                        if (job.getMode() == ImportJob.Mode.GENERIC) {
+                            if (!merger.tryAppend(newData)) {
+                                skipped.add(newData.getFileName() + " (컬럼 불일치)");
+                                continue;
+                            }
+                        } else {
+                            merger.append(newData);
+                        }
+                        rows += newData.getTotalRows();
+                    }
+
+                    if (skipped.size() == sheetData.size()) {
+                        job.fileFailed(file.getOriginalFilename() + " (컬럼 불일치)");
+                    } else {
+                        skipped.forEach(job::sheetSkipped);
+                        job.fileSucceeded(rows);
+                    }
+
+                } catch (IOException e) {
+                    log.error("파일 처리 실패: {}", file.getOriginalFilename(), e);
+                    job.fileFailed(file.getOriginalFilename() + " (처리 오류)");
+                }
+            }
+
+            // 기존 데이터가 있으면 새 행만 구간으로 추가 (기존 테이블은 복사/재기록하지 않음)
+            if (merger.hasBase()) {
+                excelRepository.append(job.getDataKey(), merger.buildAppended());
+            } else if (!merger.isEmpty()) {
+                excelRepository.save(job.getDataKey(), merger.build());
+            }
+            job.complete(merger.getTotalRows());
+            excelMetrics.recordImport(mode, start, true);
+            log.info("가져오기 완료 - {}개 성공, {}개 실패, 총 {}행, {}ms",
+                    job.getSuccessCount().get(), job.getFailCount(), job.getTotalRows(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        } catch (RuntimeException e) {
+            log.error("가져오기 작업 실패: {}", job.getId(), e);
+            job.fail(e.getMessage());
+            excelMetrics.recordImport(mode, start, false);
+        } finally {
+            // 병합 기준으로 읽은 스냅샷을 놓아서 이후 수정이 컬럼을 복사하지 않도록
+            excelRepository.release(existingData);
+        }
+    }
+
+    /**
+     * 작업 등록 - 확인과 등록을 한 번에 해서 같은 세션의 작업이 둘 이상 진행되지 않도록
+     *
+     * @throws IllegalStateException 같은 세션의 작업이 아직 진행 중
+     */
+    private void register(ImportJob job) {
+        synchronized (jobs) {
+            if (findRunning(job.getDataKey()).isPresent()) {
+                throw new IllegalStateException("이전 업로드 작업이 아직 진행 중입니다.");
+            }
+            jobs.put(job.getId(), job);
+        }
+    }
+
+    private Optional<ImportJob> findRunning(String dataKey) {
+        return jobs.values().stream()
+                .filter(job -> job.getDataKey().equals(dataKey) && !job.isFinished())
+                .findFirst();
+    }
+
+    /**
+     * 끝난 지 retention 이 지난 작업 정리
+     */
+    private void purgeFinished() {
+        Instant threshold = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+}
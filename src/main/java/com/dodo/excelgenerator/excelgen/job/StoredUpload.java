@@ -0,0 +1,108 @@
+package com.dodo.excelgenerator.excelgen.job;
+
+import com.dodo.excelgenerator.excelgen.reader.ContentHash;
+import com.dodo.excelgenerator.excelgen.service.ParseResultCache;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+
+/**
+ * 임시 파일에 옮겨 둔 업로드 파일
+ * - 서블릿 업로드 파일은 요청이 끝나면 지워지므로, 비동기 작업에 넘기기 전에 복사해 둠
+ * - 기존 파서(MultipartFile 기반)를 그대로 쓸 수 있도록 MultipartFile 구현
+ * - 복사하면서 내용 해시도 계산해서 파싱 결과 캐시 조회 때 다시 읽지 않음
+ */
+class StoredUpload implements MultipartFile, ParseResultCache.Hashed {
+
+    private final Path path;
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final long size;
+    private final String contentHash;
+
+    private StoredUpload(Path path, MultipartFile source, String contentHash) {
+        this.path = path;
+        this.contentHash = contentHash;
+        this.name = source.getName();
+        this.originalFilename = source.getOriginalFilename();
+        this.contentType = source.getContentType();
+        this.size = source.getSize();
+    }
+
+    /**
+     * 업로드 파일을 임시 파일로 복사
+     */
+    static StoredUpload copyOf(MultipartFile source) throws IOException {
+        Path path = Files.createTempFile("excelgen-upload-", ".tmp");
+        try (DigestInputStream in = ContentHash.digesting(source.getInputStream())) {
+            Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+            return new StoredUpload(path, source, ContentHash.hex(in));
+        } catch (IOException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    /**
+     * 임시 파일 삭제
+     */
+    void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 폴더 정리에 맡김
+        }
+    }
+
+    @Override
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(path);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(path);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.copy(path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
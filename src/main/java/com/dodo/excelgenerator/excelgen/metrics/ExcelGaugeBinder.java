@@ -0,0 +1,70 @@
+package com.dodo.excelgenerator.excelgen.metrics;
+
+import com.dodo.excelgenerator.excelgen.progress.ProgressHub;
+import com.dodo.excelgenerator.excelgen.repository.ExcelRepository;
+import com.dodo.excelgenerator.excelgen.service.ParseResultCache;
+import com.dodo.excelgenerator.excelgen.service.TemplatePlanCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 상태 게이지 - 수집할 때마다 값을 읽음
+ * - 세션 데이터 크기 (메모리 합계, 가장 큰 세션, 세션 수, 파일로 내려간 세션 수)
+ * - 진행 중인 작업 수, 템플릿 계획 캐시 / 파싱 결과 캐시 적중/실패
+ */
+@Component
+@RequiredArgsConstructor
+public class ExcelGaugeBinder implements MeterBinder {
+
+    private final ExcelRepository excelRepository;
+    private final TemplatePlanCache templatePlanCache;
+    private final ProgressHub progressHub;
+    private final ParseResultCache parseResultCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("excel.store.memory", excelRepository, ExcelRepository::getInMemoryBytes)
+                .description("메모리에 올라가 있는 세션 테이블 크기 합계")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("excel.store.session.max", excelRepository, ExcelRepository::getLargestEntryBytes)
+                .description("가장 큰 세션 테이블 크기")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("excel.store.sessions", excelRepository, ExcelRepository::getEntryCount)
+                .description("데이터가 있는 세션 수")
+                .register(registry);
+        Gauge.builder("excel.store.spilled", excelRepository, ExcelRepository::getSpilledCount)
+                .description("파일로 내려간 세션 수")
+                .register(registry);
+
+        Gauge.builder("excel.progress.active", progressHub, ProgressHub::getActiveCount)
+                .description("진행 중인 가져오기/다운로드 작업 수")
+                .register(registry);
+
+        FunctionCounter.builder("excel.template.plan.cache", templatePlanCache, cache -> cache.stats().hitCount())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("excel.template.plan.cache", templatePlanCache, cache -> cache.stats().missCount())
+                .tag("result", "miss")
+                .register(registry);
+
+        FunctionCounter.builder("excel.upload.cache", parseResultCache, cache -> cache.stats().hitCount())
+                .description("같은 내용의 업로드를 다시 파싱하지 않은 횟수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("excel.upload.cache", parseResultCache, cache -> cache.stats().missCount())
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("excel.upload.cache.evictions", parseResultCache, cache -> cache.stats().evictionCount())
+                .register(registry);
+        Gauge.builder("excel.upload.cache.size", parseResultCache, ParseResultCache::weightedSize)
+                .description("캐시된 파싱 결과 크기 합계")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
@@ -0,0 +1,172 @@
+package com.dodo.excelgenerator.excelgen.metrics;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엑셀 처리 지표 (Micrometer, /actuator/metrics · /actuator/prometheus)
+ * - 가져오기: excel.import(작업 전체), excel.parse(파일별), excel.merge, excel.import.rows/cells/bytes - mode 태그(generic/template)
+ * - 내보내기: excel.export(전체), excel.export.phase(create-workbook/column-width/serialize), excel.export.rows/cells/bytes
+ *   - format 태그로 파일 형식(xlsx/csv/tsv), width 태그로 컬럼 너비 계산 방식(sampled/autosize, csv/tsv 는 none) 구분
+ * - 변환: excel.convert(업로드 → 다운로드 전체), excel.convert.wait(읽는 쪽이 큐가 찰 때까지 기다린 시간 = 배압)
+ * - 조회: excel.query(정렬/필터/중복 제거, 색인을 새로 만드는 시간 포함), excel.query.rows(결과 행 수)
+ * - 전체 소요 시간 타이머는 백분위 히스토그램을 내보내서 p99 알림에 사용
+ */
+@Component
+public class ExcelMetrics {
+
+    public static final String MODE_GENERIC = "generic";
+    public static final String MODE_TEMPLATE = "template";
+
+    public static final String FORMAT_XLSX = "xlsx";
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_TSV = "tsv";
+
+    public static final String PHASE_CREATE_WORKBOOK = "create-workbook";
+    public static final String PHASE_COLUMN_WIDTH = "column-width";
+    public static final String PHASE_SERIALIZE = "serialize";
+
+    private final MeterRegistry registry;
+    private final String width;
+
+    private final Timer mergeTimer;
+    private final Timer queryTimer;
+    private final DistributionSummary queryRows;
+    private final Counter exportRows;
+    private final Counter exportCells;
+    private final Counter exportBytes;
+
+    public ExcelMetrics(MeterRegistry registry, ExcelProperties excelProperties) {
+        this.registry = registry;
+        this.width = excelProperties.getExport().getColumnWidth().getMode().name().toLowerCase(Locale.ROOT);
+
+        this.mergeTimer = Timer.builder("excel.merge")
+                .description("파일 하나를 기존 데이터에 이어 붙이는 시간")
+                .register(registry);
+        this.queryTimer = Timer.builder("excel.query")
+                .description("저장된 테이블 정렬/필터/중복 제거 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.queryRows = DistributionSummary.builder("excel.query.rows")
+                .description("조회 결과 행 수")
+                .register(registry);
+        this.exportRows = Counter.builder("excel.export.rows").register(registry);
+        this.exportCells = Counter.builder("excel.export.cells").register(registry);
+        this.exportBytes = Counter.builder("excel.export.bytes").baseUnit("bytes").register(registry);
+    }
+
+    /**
+     * 파일 하나 파싱 완료 (선택한 시트 결과 전체)
+     */
+    public void recordParse(String mode, long startNanos, long fileBytes, List<ExcelResponseDto> sheets) {
+        Timer.builder("excel.parse")
+                .description("업로드 파일 하나를 파싱하는 시간")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+        long rows = 0;
+        long cells = 0;
+        for (ExcelResponseDto sheet : sheets) {
+            rows += sheet.getTotalRows();
+            cells += (long) sheet.getTotalRows() * sheet.getHeaders().size();
+        }
+        counter("excel.import.rows", mode).increment(rows);
+        counter("excel.import.cells", mode).increment(cells);
+        Counter.builder("excel.import.bytes")
+                .baseUnit("bytes")
+                .tag("mode", mode)
+                .register(registry)
+                .increment(fileBytes);
+    }
+
+    /**
+     * 병합 (파일 하나 이어 붙이기) 완료
+     */
+    public void recordMerge(long startNanos) {
+        mergeTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 조회 (정렬/필터/중복 제거) 완료
+     */
+    public void recordQuery(long startNanos, int rows) {
+        queryTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        queryRows.record(rows);
+    }
+
+    /**
+     * 가져오기 작업 전체 완료 (파싱 + 병합 + 저장)
+     */
+    public void recordImport(String mode, long startNanos, boolean succeeded) {
+        Timer.builder("excel.import")
+                .description("가져오기 작업 전체 시간")
+                .tag("mode", mode)
+                .tag("outcome", succeeded ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 변환(업로드 → 다운로드 파이프라인) 완료
+     *
+     * @param producerWaitNanos 쓰는 쪽이 따라오지 못해서 읽는 쪽이 큐에서 기다린 시간 합계
+     */
+    public void recordConvert(String mode, long startNanos, boolean succeeded, long producerWaitNanos) {
+        Timer.builder("excel.convert")
+                .description("업로드 파일을 읽으면서 바로 다운로드 파일로 쓰는 전체 시간")
+                .tag("mode", mode)
+                .tag("outcome", succeeded ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        Timer.builder("excel.convert.wait")
+                .description("변환 중 읽는 쪽이 가득 찬 큐에서 기다린 시간")
+                .tag("mode", mode)
+                .register(registry)
+                .record(producerWaitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 다운로드 엑셀 생성 단계 하나 완료
+     */
+    public void recordExportPhase(String phase, long startNanos) {
+        Timer.builder("excel.export.phase")
+                .description("다운로드 엑셀 생성 단계별 시간")
+                .tag("phase", phase)
+                .tag("width", width)
+                .register(registry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 다운로드 파일 생성 전체 완료
+     */
+    public void recordExport(String format, long startNanos, int rows, int cols, long bytes) {
+        Timer.builder("excel.export")
+                .description("다운로드 파일 생성 전체 시간")
+                .tag("format", format)
+                .tag("width", FORMAT_XLSX.equals(format) ? width : "none")
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        exportRows.increment(rows);
+        exportCells.increment((double) rows * cols);
+        exportBytes.increment(bytes);
+    }
+
+    private Counter counter(String name, String mode) {
+        return Counter.builder(name).tag("mode", mode).register(registry);
+    }
+}
@@ -0,0 +1,123 @@
+package com.dodo.excelgenerator.excelgen.progress;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ProgressEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 진행 상황 SSE 허브
+ * - 세션(데이터 키)별로 SseEmitter 구독자를 두고, 그 세션의 작업 진행 상황을 전송
+ * - 진행 중인 작업 목록을 유지해서 멈춘 작업(idleMs 가 큰 작업)을 스레드 덤프 없이 확인
+ */
+@Slf4j
+@Component
+public class ProgressHub {
+
+    private static final String EVENT_NAME = "progress";
+
+    private final long publishIntervalMs;
+    private final long emitterTimeoutMs;
+
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<String, ProgressTracker> active = new ConcurrentHashMap<>();
+
+    public ProgressHub(ExcelProperties excelProperties) {
+        ExcelProperties.Progress progress = excelProperties.getProgress();
+        this.publishIntervalMs = progress.getPublishInterval().toMillis();
+        this.emitterTimeoutMs = progress.getEmitterTimeout().toMillis();
+    }
+
+    /**
+     * 진행 상황 구독 - 지금 진행 중인 작업 상태를 먼저 보내 줌
+     */
+    public SseEmitter subscribe(String key) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitters.compute(key, (k, list) -> {
+            List<SseEmitter> target = list != null ? list : new CopyOnWriteArrayList<>();
+            target.add(emitter);
+            return target;
+        });
+
+        Runnable remove = () -> removeEmitter(key, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        for (ProgressTracker tracker : active.values()) {
+            if (tracker.getKey().equals(key)) {
+                send(key, emitter, tracker.snapshot());
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * 작업 시작 - 끝나면 반드시 close() (try-with-resources)
+     */
+    public ProgressTracker start(String key, String operation) {
+        ProgressTracker tracker = new ProgressTracker(key, operation, this, publishIntervalMs);
+        active.put(tracker.getId(), tracker);
+        publish(tracker);
+        return tracker;
+    }
+
+    /**
+     * 진행 중인 작업 상태 목록
+     */
+    public List<ProgressEventDto> getActiveOperations() {
+        return active.values().stream()
+                .map(ProgressTracker::snapshot)
+                .toList();
+    }
+
+    /**
+     * 진행 중인 작업 수
+     */
+    public int getActiveCount() {
+        return active.size();
+    }
+
+    void publish(ProgressTracker tracker) {
+        List<SseEmitter> list = emitters.get(tracker.getKey());
+        if (list == null || list.isEmpty()) {
+            return;
+        }
+        ProgressEventDto event = tracker.snapshot();
+        for (SseEmitter emitter : list) {
+            send(tracker.getKey(), emitter, event);
+        }
+    }
+
+    void finish(ProgressTracker tracker) {
+        active.remove(tracker.getId());
+        publish(tracker);
+    }
+
+    private void send(String key, SseEmitter emitter, ProgressEventDto event) {
+        try {
+            // SseEmitter 는 동시 전송을 지원하지 않으므로 emitter 단위로 직렬화
+            synchronized (emitter) {
+                emitter.send(SseEmitter.event().name(EVENT_NAME).data(event));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자
+            log.debug("진행 상황 전송 실패 - 구독 해제: {}", e.getMessage());
+            removeEmitter(key, emitter);
+        }
+    }
+
+    private void removeEmitter(String key, SseEmitter emitter) {
+        emitters.computeIfPresent(key, (k, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package com.dodo.excelgenerator.excelgen.progress;
+
+/**
+ * 파싱/엑셀 생성 진행 콜백
+ * - 여러 파싱 스레드에서 동시에 호출될 수 있음
+ * - 행마다 호출되므로 구현은 가볍게 (카운터 증가 정도)
+ */
+public interface ProgressListener {
+
+    /**
+     * 아무것도 하지 않는 리스너
+     */
+    ProgressListener NONE = new ProgressListener() {
+    };
+
+    /**
+     * 시트에서 행을 읽음
+     */
+    default void onRowsRead(int rows) {
+    }
+
+    /**
+     * 워크북에 행을 기록함
+     */
+    default void onRowsWritten(int rows) {
+    }
+
+    /**
+     * 응답 스트림으로 바이트를 내보냄
+     */
+    default void onBytesWritten(long bytes) {
+    }
+
+    /**
+     * 파일/시트를 건너뜀 (이름 + 사유) - 결과에 빠진 부분을 사용자에게 알림
+     */
+    default void onSkipped(String reason) {
+    }
+}
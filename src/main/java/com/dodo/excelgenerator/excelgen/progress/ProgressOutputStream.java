@@ -0,0 +1,41 @@
+package com.dodo.excelgenerator.excelgen.progress;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 기록한 바이트 수를 ProgressListener 에 알려주는 출력 스트림
+ */
+public class ProgressOutputStream extends FilterOutputStream {
+
+    private final ProgressListener listener;
+    private long count;
+
+    public ProgressOutputStream(OutputStream out, ProgressListener listener) {
+        super(out);
+        this.listener = listener;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        count++;
+        listener.onBytesWritten(1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        // FilterOutputStream 기본 구현은 한 바이트씩 기록하므로 그대로 넘김
+        out.write(b, off, len);
+        count += len;
+        listener.onBytesWritten(len);
+    }
+
+    /**
+     * 지금까지 기록한 바이트 수
+     */
+    public long getCount() {
+        return count;
+    }
+}
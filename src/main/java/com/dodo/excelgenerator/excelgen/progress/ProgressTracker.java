@@ -0,0 +1,103 @@
+package com.dodo.excelgenerator.excelgen.progress;
+
+import com.dodo.excelgenerator.excelgen.dto.ProgressEventDto;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업 하나의 진행 상황 집계 - ProgressHub 가 만들고 구독자에게 주기적으로 전송
+ * - 카운터는 LongAdder (병렬 파싱 스레드가 동시에 증가)
+ * - 전송은 publishIntervalMs 마다 한 번 (행마다 보내지 않음)
+ */
+public class ProgressTracker implements ProgressListener, AutoCloseable {
+
+    @Getter
+    private final String id = UUID.randomUUID().toString();
+    @Getter
+    private final String key;
+    private final String operation;
+    private final ProgressHub hub;
+    private final long publishIntervalMs;
+    private final long startedAt = System.currentTimeMillis();
+
+    private final LongAdder rowsRead = new LongAdder();
+    private final LongAdder rowsWritten = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final List<String> skipped = new CopyOnWriteArrayList<>();
+    private final AtomicLong lastPublished = new AtomicLong();
+    private volatile long lastProgressAt = startedAt;
+    private volatile boolean done;
+
+    ProgressTracker(String key, String operation, ProgressHub hub, long publishIntervalMs) {
+        this.key = key;
+        this.operation = operation;
+        this.hub = hub;
+        this.publishIntervalMs = publishIntervalMs;
+    }
+
+    @Override
+    public void onRowsRead(int rows) {
+        rowsRead.add(rows);
+        progressed();
+    }
+
+    @Override
+    public void onRowsWritten(int rows) {
+        rowsWritten.add(rows);
+        progressed();
+    }
+
+    @Override
+    public void onBytesWritten(long bytes) {
+        bytesWritten.add(bytes);
+        progressed();
+    }
+
+    @Override
+    public void onSkipped(String reason) {
+        skipped.add(reason);
+    }
+
+    /**
+     * 작업 종료 - 마지막 상태를 전송하고 진행 중 목록에서 제거
+     */
+    @Override
+    public void close() {
+        done = true;
+        hub.finish(this);
+    }
+
+    /**
+     * 현재 상태
+     */
+    public ProgressEventDto snapshot() {
+        long now = System.currentTimeMillis();
+        return ProgressEventDto.builder()
+                .operationId(id)
+                .operation(operation)
+                .rowsRead(rowsRead.sum())
+                .rowsWritten(rowsWritten.sum())
+                .bytesWritten(bytesWritten.sum())
+                .elapsedMs(now - startedAt)
+                .idleMs(now - lastProgressAt)
+                .skipped(List.copyOf(skipped))
+                .done(done)
+                .build();
+    }
+
+    private void progressed() {
+        long now = System.currentTimeMillis();
+        lastProgressAt = now;
+
+        // 여러 스레드 중 한 스레드만 전송
+        long last = lastPublished.get();
+        if (now - last >= publishIntervalMs && lastPublished.compareAndSet(last, now)) {
+            hub.publish(this);
+        }
+    }
+}
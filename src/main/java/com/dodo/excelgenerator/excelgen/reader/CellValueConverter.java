@@ -0,0 +1,135 @@
+package com.dodo.excelgenerator.excelgen.reader;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.model.StylesTable;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * 셀 값 → 문자열 변환 (DOM / SAX 공통 규칙)
+ * - 날짜 서식 여부는 스타일 인덱스별로 한 번만 판단 (서식 문자열 해석은 비쌈)
+ * - 수식 셀은 캐시된 결과 타입을 보고 읽음 (예외로 분기하지 않음)
+ * - 숫자: 정수면 소수점 없이, 아니면 Double.toString / 수식 결과 숫자는 항상 Double.toString
+ * - 시트 하나를 읽는 동안 쓰는 객체 (스레드 간 공유 X)
+ */
+public final class CellValueConverter {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte DATE = 1;
+    private static final byte NOT_DATE = 2;
+
+    private final IntFunction<CellStyle> styles;
+    private final boolean date1904;
+    private byte[] dateStyles = new byte[64];
+
+    private CellValueConverter(IntFunction<CellStyle> styles, boolean date1904) {
+        this.styles = styles;
+        this.date1904 = date1904;
+    }
+
+    /**
+     * DOM 워크북용 (날짜 변환은 셀이 속한 워크북 설정을 따름)
+     */
+    public static CellValueConverter forWorkbook(Workbook workbook) {
+        return new CellValueConverter(workbook::getCellStyleAt, false);
+    }
+
+    /**
+     * SAX 시트용 - styles 가 없으면 날짜 서식 없음으로 봄
+     */
+    static CellValueConverter forStyles(StylesTable styles, boolean date1904) {
+        if (styles == null) {
+            return new CellValueConverter(i -> null, date1904);
+        }
+        return new CellValueConverter(i -> i < styles.getNumCellStyles() ? styles.getStyleAt(i) : null, date1904);
+    }
+
+    /**
+     * DOM 셀 값
+     */
+    public String convert(Cell cell) {
+        if (cell == null) {
+            return "";
+        }
+        return switch (cell.getCellType()) {
+            case STRING -> cell.getStringCellValue();
+            case NUMERIC -> {
+                double value = cell.getNumericCellValue();
+                if (DateUtil.isValidExcelDate(value) && isDateStyle(cell.getCellStyle().getIndex())) {
+                    yield cell.getLocalDateTimeCellValue().toString();
+                }
+                yield formatNumber(value);
+            }
+            case BOOLEAN -> formatBoolean(cell.getBooleanCellValue());
+            case FORMULA -> convertFormula(cell);
+            default -> "";  // BLANK, ERROR
+        };
+    }
+
+    /**
+     * SAX 숫자 셀 값 (수식 아님)
+     */
+    String convertNumber(double value, int styleIdx) {
+        if (DateUtil.isValidExcelDate(value) && isDateStyle(styleIdx)) {
+            return DateUtil.getLocalDateTime(value, date1904).toString();
+        }
+        return formatNumber(value);
+    }
+
+    /**
+     * 정수면 소수점 없이 (long 범위를 넘으면 지수 표기)
+     */
+    public static String formatNumber(double value) {
+        long integral = (long) value;
+        if (integral == value && integral != Long.MAX_VALUE && integral != Long.MIN_VALUE) {
+            return Long.toString(integral);
+        }
+        return Double.toString(value);
+    }
+
+    /**
+     * 수식 결과 숫자 - 기존 출력과 같게 항상 소수점 포함 (예: 3.0)
+     */
+    static String formatFormulaNumber(double value) {
+        return Double.toString(value);
+    }
+
+    static String formatBoolean(boolean value) {
+        return value ? "true" : "false";
+    }
+
+    private String convertFormula(Cell cell) {
+        CellType resultType = cell.getCachedFormulaResultType();
+        return switch (resultType) {
+            case NUMERIC -> formatFormulaNumber(cell.getNumericCellValue());
+            case STRING -> cell.getStringCellValue();
+            case BOOLEAN -> formatBoolean(cell.getBooleanCellValue());
+            default -> "";  // ERROR 등
+        };
+    }
+
+    /**
+     * 스타일 인덱스의 날짜 서식 여부 (처음 볼 때만 서식 문자열 해석)
+     */
+    private boolean isDateStyle(int styleIdx) {
+        if (styleIdx < 0) {
+            return false;
+        }
+        if (styleIdx >= dateStyles.length) {
+            dateStyles = Arrays.copyOf(dateStyles, Math.max(styleIdx + 1, dateStyles.length * 2));
+        }
+        byte cached = dateStyles[styleIdx];
+        if (cached == UNKNOWN) {
+            CellStyle style = styles.apply(styleIdx);
+            boolean date = style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+            cached = date ? DATE : NOT_DATE;
+            dateStyles[styleIdx] = cached;
+        }
+        return cached == DATE;
+    }
+}
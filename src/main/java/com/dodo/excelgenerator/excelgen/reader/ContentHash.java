@@ -0,0 +1,49 @@
+package com.dodo.excelgenerator.excelgen.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 업로드 내용 해시 (SHA-256, 파싱 결과 캐시 키)
+ * - 업로드를 임시 파일로 복사하는 곳에서는 digesting 으로 감싸서 복사하면서 함께 계산
+ */
+public final class ContentHash {
+
+    private ContentHash() {
+    }
+
+    /**
+     * 읽으면서 해시를 함께 계산하는 스트림 - 다 읽은 뒤 hex 로 값 확인
+     */
+    public static DigestInputStream digesting(InputStream in) {
+        return new DigestInputStream(in, newDigest());
+    }
+
+    public static String hex(DigestInputStream in) {
+        return HexFormat.of().formatHex(in.getMessageDigest().digest());
+    }
+
+    /**
+     * 스트림을 끝까지 읽어서 계산 (복사 없이 해시만 필요할 때)
+     */
+    public static String of(InputStream in) throws IOException {
+        try (DigestInputStream digesting = digesting(in)) {
+            digesting.transferTo(OutputStream.nullOutputStream());
+            return hex(digesting);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 에 SHA-256 은 있어야 함
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.dodo.excelgenerator.excelgen.reader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * CSV / TSV 스트리밍 리더
+ * - 엑셀 리더와 같은 SheetRowHandler 로 한 행씩 넘겨서 헤더 검증/병합/템플릿 추출을 그대로 사용
+ * - 임시 파일 없이 업로드 스트림을 바로 읽고, 값은 읽기 버퍼에서 바로 String 으로 만듦
+ *   (따옴표 안의 값이나 버퍼 경계에 걸친 값만 StringBuilder 를 거침)
+ * - 문자셋: BOM 이 있으면 그대로, 없으면 앞부분이 UTF-8 로 읽히는지 확인하고 아니면 CP949(EUC-KR 확장)
+ *   (앞부분만 보고 UTF-8 로 정했으므로 뒤에서 UTF-8 이 아닌 바이트가 나오면 깨진 값을 넣지 않고 IOException)
+ * - 구분자: .tsv 는 탭, .csv 는 쉼표 (확장자가 없으면 첫 줄에서 많은 쪽)
+ * - RFC 4180: 따옴표로 감싼 값 안의 구분자/줄바꿈, "" 이스케이프
+ */
+@Slf4j
+@Component
+public class CsvStreamingReader {
+
+    private static final Charset CP949 = Charset.forName("x-windows-949");
+    private static final int SNIFF_BYTES = 64 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * CSV/TSV 파일인지 확인 (확장자 또는 Content-Type)
+     */
+    public boolean supports(MultipartFile file) {
+        String name = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        String contentType = file.getContentType() != null ? file.getContentType().toLowerCase(Locale.ROOT) : "";
+        return name.endsWith(".csv") || name.endsWith(".tsv")
+                || contentType.startsWith("text/csv") || contentType.startsWith("text/tab-separated-values");
+    }
+
+    /**
+     * 업로드 파일을 읽으면서 행마다 handler 호출 (빈 값도 열 위치를 유지하도록 모두 전달)
+     */
+    public void read(MultipartFile file, SheetRowHandler handler) throws IOException {
+        try (BufferedInputStream in = new BufferedInputStream(file.getInputStream(), SNIFF_BYTES)) {
+            in.mark(SNIFF_BYTES);
+            byte[] head = in.readNBytes(SNIFF_BYTES);
+            in.reset();
+
+            int bomLength = bomLength(head);
+            Charset charset = bomLength > 0 ? StandardCharsets.UTF_8 : detectCharset(head);
+            in.skipNBytes(bomLength);
+
+            char delimiter = delimiter(file, new String(head, bomLength, head.length - bomLength, charset));
+            log.debug("CSV 읽기 - {} ({}, 구분자: {})", file.getOriginalFilename(), charset,
+                    delimiter == '\t' ? "탭" : String.valueOf(delimiter));
+
+            // 추정한 UTF-8 은 끝까지 엄격하게 (잘못된 바이트를 � 로 바꾸지 않음)
+            Reader reader = bomLength == 0 && charset == StandardCharsets.UTF_8
+                    ? new InputStreamReader(in, strictDecoder(charset))
+                    : new InputStreamReader(in, charset);
+
+            StringInterner interner = new StringInterner();
+            Parser parser = new Parser(reader, delimiter, interner);
+            SheetRow row = new SheetRow();
+            int rowIdx = 0;
+            try {
+                while (parser.readRecord(row)) {
+                    if (!handler.handleRow(rowIdx++, row)) {
+                        log.debug("CSV 읽기 중단: {}", file.getOriginalFilename());
+                        break;
+                    }
+                }
+            } catch (CharacterCodingException e) {
+                throw new IOException(String.format(
+                        "CSV 문자셋 판별 실패 - 앞부분은 UTF-8 이지만 %d행 근처에 UTF-8 이 아닌 문자가 있습니다. "
+                                + "UTF-8 또는 CP949 한 가지로 저장해주세요.", rowIdx + 1), e);
+            }
+            log.debug("문자열 중복 제거 - {}", interner);
+        }
+    }
+
+    private static int bomLength(byte[] head) {
+        if (head.length >= 3 && (head[0] & 0xFF) == 0xEF && (head[1] & 0xFF) == 0xBB && (head[2] & 0xFF) == 0xBF) {
+            return 3;
+        }
+        return 0;
+    }
+
+    /**
+     * 앞부분이 올바른 UTF-8 이면 UTF-8, 아니면 CP949
+     * - 샘플 끝에서 잘린 멀티바이트 문자는 오류로 보지 않음
+     */
+    private static Charset detectCharset(byte[] head) {
+        CharBuffer out = CharBuffer.allocate(head.length);
+        boolean malformed = strictDecoder(StandardCharsets.UTF_8).decode(ByteBuffer.wrap(head), out, false).isError();
+        return malformed ? CP949 : StandardCharsets.UTF_8;
+    }
+
+    /**
+     * 잘못된 바이트를 만나면 치환하지 않고 오류를 내는 디코더
+     */
+    private static CharsetDecoder strictDecoder(Charset charset) {
+        return charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+    }
+
+    private static char delimiter(MultipartFile file, String head) {
+        String name = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".tsv")) {
+            return '\t';
+        }
+        if (name.endsWith(".csv")) {
+            return ',';
+        }
+        int lineEnd = head.indexOf('\n');
+        String firstLine = lineEnd >= 0 ? head.substring(0, lineEnd) : head;
+        long tabs = firstLine.chars().filter(c -> c == '\t').count();
+        long commas = firstLine.chars().filter(c -> c == ',').count();
+        return tabs > commas ? '\t' : ',';
+    }
+
+    /**
+     * 레코드 단위 파서 - 읽기 버퍼를 직접 훑음
+     */
+    private static class Parser {
+
+        private final Reader reader;
+        private final char delimiter;
+        private final StringInterner interner;
+
+        private final char[] buf = new char[BUFFER_SIZE];
+        private int pos;
+        private int len;
+
+        // 따옴표 값, 버퍼 경계에 걸친 값만 사용
+        private final StringBuilder field = new StringBuilder();
+        private boolean endOfRecord;
+
+        Parser(Reader reader, char delimiter, StringInterner interner) {
+            this.reader = reader;
+            this.delimiter = delimiter;
+            this.interner = interner;
+        }
+
+        /**
+         * 다음 레코드를 row 에 채움
+         *
+         * @return 더 읽을 레코드가 없으면 false
+         */
+        boolean readRecord(SheetRow row) throws IOException {
+            row.clear();
+            if (pos >= len && !fill()) {
+                return false;
+            }
+            int col = 0;
+            do {
+                row.add(col++, readField());
+            } while (!endOfRecord);
+            return true;
+        }
+
+        private String readField() throws IOException {
+            if (pos >= len && !fill()) {
+                endOfRecord = true;
+                return "";
+            }
+            if (buf[pos] == '"') {
+                pos++;
+                return readQuoted();
+            }
+
+            int start = pos;
+            while (true) {
+                if (pos >= len) {
+                    // 버퍼 경계에 걸친 값
+                    field.append(buf, start, pos - start);
+                    if (!fill()) {
+                        endOfRecord = true;
+                        return take();
+                    }
+                    start = 0;
+                    continue;
+                }
+                char c = buf[pos];
+                if (c == delimiter) {
+                    String value = slice(start, pos);
+                    pos++;
+                    endOfRecord = false;
+                    return value;
+                }
+                if (c == '\n' || c == '\r') {
+                    String value = slice(start, pos);
+                    skipLineBreak();
+                    endOfRecord = true;
+                    return value;
+                }
+                pos++;
+            }
+        }
+
+        /**
+         * 따옴표 값 - 여는 따옴표 다음부터
+         * - 닫는 따옴표 뒤에 구분자 전까지 남은 문자는 값에 붙임 (느슨하게 처리)
+         * - 닫히지 않은 채 파일이 끝나면 거기까지를 값으로
+         */
+        private String readQuoted() throws IOException {
+            boolean closed = false;
+            int start = pos;
+            while (true) {
+                if (pos >= len) {
+                    field.append(buf, start, pos - start);
+                    if (!fill()) {
+                        endOfRecord = true;
+                        return take();
+                    }
+                    start = 0;
+                    continue;
+                }
+                char c = buf[pos];
+                if (!closed && c == '"') {
+                    field.append(buf, start, pos - start);
+                    pos++;
+                    if (pos >= len && !fill()) {
+                        endOfRecord = true;
+                        return take();
+                    }
+                    if (buf[pos] == '"') {
+                        // "" -> "
+                        field.append('"');
+                        pos++;
+                    } else {
+                        closed = true;
+                    }
+                    start = pos;
+                    continue;
+                }
+                if (closed && c == delimiter) {
+                    field.append(buf, start, pos - start);
+                    pos++;
+                    endOfRecord = false;
+                    return take();
+                }
+                if (closed && (c == '\n' || c == '\r')) {
+                    field.append(buf, start, pos - start);
+                    skipLineBreak();
+                    endOfRecord = true;
+                    return take();
+                }
+                pos++;
+            }
+        }
+
+        private void skipLineBreak() throws IOException {
+            if (buf[pos++] == '\r' && (pos < len || fill()) && buf[pos] == '\n') {
+                pos++;
+            }
+        }
+
+        /**
+         * 버퍼 구간을 값으로 - 앞서 모아 둔 부분이 없으면 버퍼에서 바로 생성
+         */
+        private String slice(int start, int end) {
+            if (field.length() == 0) {
+                return interner.intern(new String(buf, start, end - start));
+            }
+            field.append(buf, start, end - start);
+            return take();
+        }
+
+        private String take() {
+            String value = interner.intern(field.toString());
+            field.setLength(0);
+            return value;
+        }
+
+        private boolean fill() throws IOException {
+            int n;
+            do {
+                n = reader.read(buf, 0, buf.length);
+            } while (n == 0);
+            pos = 0;
+            len = Math.max(n, 0);
+            return n > 0;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.dodo.excelgenerator.excelgen.reader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 스트리밍으로 읽은 한 행 - 실제 존재하는 셀만 (열 번호, 값) 쌍으로 담음
+ * - 행마다 새로 만들지 않고 재사용하는 버퍼
+ */
+public class SheetRow {
+
+    private int[] columns = new int[16];
+    private String[] values = new String[16];
+    private int size;
+
+    /**
+     * 실제 존재하는 셀 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * i번째 셀의 열 번호 (0-based)
+     */
+    public int getColumn(int i) {
+        return columns[i];
+    }
+
+    /**
+     * i번째 셀 값
+     */
+    public String getValue(int i) {
+        return values[i];
+    }
+
+    /**
+     * 특정 열의 값 (셀이 없으면 빈 문자열)
+     */
+    public String getValueAt(int colIdx) {
+        int pos = Arrays.binarySearch(columns, 0, size, colIdx);
+        return pos >= 0 ? values[pos] : "";
+    }
+
+    /**
+     * 존재하는 셀 값들을 새 리스트로 복사 (DOM 의 for (Cell cell : row) 와 동일한 순서)
+     */
+    public List<String> toList() {
+        List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(values[i]);
+        }
+        return list;
+    }
+
+    void clear() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    void add(int colIdx, String value) {
+        if (size == columns.length) {
+            columns = Arrays.copyOf(columns, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        columns[size] = colIdx;
+        values[size] = value;
+        size++;
+    }
+}
@@ -0,0 +1,17 @@
+package com.dodo.excelgenerator.excelgen.reader;
+
+/**
+ * 시트 행 단위 콜백 - 스트리밍 리더가 행을 읽을 때마다 호출
+ */
+@FunctionalInterface
+public interface SheetRowHandler {
+
+    /**
+     * 행 처리
+     *
+     * @param rowIdx 0-based 행 번호
+     * @param row    현재 행 (재사용 버퍼이므로 보관하려면 복사해야 함)
+     * @return false 반환 시 시트 읽기 중단
+     */
+    boolean handleRow(int rowIdx, SheetRow row);
+}
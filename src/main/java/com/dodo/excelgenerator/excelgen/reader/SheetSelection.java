@@ -0,0 +1,151 @@
+package com.dodo.excelgenerator.excelgen.reader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 읽을 시트 선택
+ * - FIRST   : 첫 번째 시트만 (기본)
+ * - ALL     : 모든 시트
+ * - INDEXES : 시트 번호 목록 (화면 입력은 1부터, 내부는 0부터)
+ * - NAME    : 시트 이름 그대로 (숫자로 된 이름 "2024", "2024-01" 등)
+ * - PATTERN : 시트 이름 정규식 (전체 일치)
+ */
+public final class SheetSelection {
+
+    private static final SheetSelection FIRST = new SheetSelection(Type.FIRST, null, Set.of(), null);
+    private static final SheetSelection ALL = new SheetSelection(Type.ALL, null, Set.of(), null);
+    private static final int MAX_SHEET_NUMBER = 4096;
+    private static final Pattern INDEX_LIST = Pattern.compile("\\d+(-\\d+)?(\\s*,\\s*\\d+(-\\d+)?)*");
+    private static final String NAME_PREFIX = "name:";
+
+    private final Type type;
+    private final Pattern pattern;
+    private final Set<Integer> indexes;
+    private final String name;              // NAME: 시트 이름, INDEXES: 번호가 시트 수를 넘을 때 찾을 이름 (입력 그대로)
+
+    private SheetSelection(Type type, Pattern pattern, Set<Integer> indexes, String name) {
+        this.type = type;
+        this.pattern = pattern;
+        this.indexes = indexes;
+        this.name = name;
+    }
+
+    public static SheetSelection first() {
+        return FIRST;
+    }
+
+    public static SheetSelection all() {
+        return ALL;
+    }
+
+    /**
+     * 화면 입력 해석
+     * - 비어있으면 첫 시트, "*" 는 전체
+     * - "name:" 으로 시작하면 뒤의 문자열과 이름이 같은 시트 (예: "name:2024-01")
+     * - "1,3-5" 처럼 숫자/범위 목록이면 시트 번호 (1부터)
+     *   - 번호로 볼 수 없는 목록("2024-01" 처럼 거꾸로 된 범위, 0, 너무 큰 번호)은 시트 이름 그대로
+     *   - 번호가 시트 수를 넘는데 입력과 이름이 같은 시트가 있으면 그 시트 (select 에서 판단)
+     * - 그 외는 시트 이름 정규식 (예: "2024-.*")
+     *
+     * @throws IllegalArgumentException 정규식이 잘못됨
+     */
+    public static SheetSelection parse(String input) {
+        String value = input != null ? input.trim() : "";
+        if (value.isEmpty()) {
+            return FIRST;
+        }
+        if (value.equals("*")) {
+            return ALL;
+        }
+        if (value.startsWith(NAME_PREFIX)) {
+            return new SheetSelection(Type.NAME, null, Set.of(), value.substring(NAME_PREFIX.length()));
+        }
+        if (INDEX_LIST.matcher(value).matches()) {
+            Set<Integer> indexes = indexes(value);
+            return indexes != null
+                    ? new SheetSelection(Type.INDEXES, null, indexes, value)
+                    : new SheetSelection(Type.NAME, null, Set.of(), value);
+        }
+        try {
+            return new SheetSelection(Type.PATTERN, Pattern.compile(value), Set.of(), null);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException("잘못된 시트 이름 패턴: " + value, e);
+        }
+    }
+
+    /**
+     * 시트 이름 목록에서 읽을 시트 번호 (0부터, 통합 문서 순서)
+     * - 번호 목록이 시트 수를 넘고 입력과 이름이 같은 시트가 있으면 번호 대신 그 시트
+     */
+    public List<Integer> select(List<String> sheetNames) {
+        boolean byName = type == Type.INDEXES && sheetNames.contains(name)
+                && indexes.stream().anyMatch(i -> i >= sheetNames.size());
+        List<Integer> selected = new ArrayList<>();
+        for (int i = 0; i < sheetNames.size(); i++) {
+            if (byName ? name.equals(sheetNames.get(i)) : matches(i, sheetNames.get(i))) {
+                selected.add(i);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 시트 결과 이름 - 여러 시트를 고를 수 있는 선택이면 파일명 뒤에 시트 이름 (예: data.xlsx [1월])
+     */
+    public String label(String fileName, String sheetName) {
+        return type == Type.FIRST ? fileName : fileName + " [" + sheetName + "]";
+    }
+
+    @Override
+    public String toString() {
+        return switch (type) {
+            case FIRST, ALL -> type.name();
+            case INDEXES -> type + indexes.toString() + "(" + name + ")";
+            case NAME -> type + "(" + name + ")";
+            case PATTERN -> type + "(" + pattern.pattern() + ")";
+        };
+    }
+
+    /**
+     * 번호 목록 해석 (1부터 → 0부터)
+     *
+     * @return 번호로 볼 수 없으면 null
+     */
+    private static Set<Integer> indexes(String value) {
+        Set<Integer> indexes = new TreeSet<>();
+        for (String part : value.split("\\s*,\\s*")) {
+            String[] range = part.split("-");
+            if (range[0].length() > 4 || range.length > 1 && range[1].length() > 4) {
+                return null;
+            }
+            int from = Integer.parseInt(range[0]);
+            int to = range.length > 1 ? Integer.parseInt(range[1]) : from;
+            if (from < 1 || to < from || to > MAX_SHEET_NUMBER) {
+                return null;
+            }
+            for (int i = from; i <= to; i++) {
+                indexes.add(i - 1);
+            }
+        }
+        return Set.copyOf(indexes);
+    }
+
+    private boolean matches(int index, String sheetName) {
+        return switch (type) {
+            case FIRST -> index == 0;
+            case ALL -> true;
+            case INDEXES -> indexes.contains(index);
+            case NAME -> name.equals(sheetName);
+            case PATTERN -> sheetName != null && pattern.matcher(sheetName).matches();
+        };
+    }
+
+    private enum Type {
+        FIRST, ALL, INDEXES, NAME, PATTERN
+    }
+}
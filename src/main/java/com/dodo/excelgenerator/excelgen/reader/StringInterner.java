@@ -0,0 +1,77 @@
+package com.dodo.excelgenerator.excelgen.reader;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 파일 하나를 읽는 동안 쓰는 문자열 인터너
+ * - 회사명, 코드, 부서, 직급처럼 반복되는 값은 한 인스턴스만 남도록 함
+ * - 가져오기(import) 단위로 만들고 버림 (String.intern 처럼 JVM 전역에 남지 않음)
+ * - 서로 다른 값이 maxEntries 를 넘으면 더 등록하지 않음 (고유 값이 많은 파일에서 맵만 커지지 않도록)
+ * - 스레드 안전하지 않음 (파일 하나는 한 스레드에서 읽음)
+ */
+public class StringInterner {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1 << 16;
+
+    private final Map<String, String> pool = new HashMap<>();
+    private final int maxEntries;
+
+    private long hitCount;
+    private long savedBytes;
+
+    public StringInterner() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public StringInterner(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 같은 값이 이미 있으면 그 인스턴스를, 없으면 등록 후 value 그대로 반환
+     */
+    public String intern(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        String existing = pool.get(value);
+        if (existing != null) {
+            if (existing != value) {
+                hitCount++;
+                savedBytes += 40 + value.length();     // 대략 String 헤더 + latin1 기준 문자 배열
+            }
+            return existing;
+        }
+        if (pool.size() < maxEntries) {
+            pool.put(value, value);
+        }
+        return value;
+    }
+
+    /**
+     * 등록된 고유 값 수
+     */
+    public int getUniqueCount() {
+        return pool.size();
+    }
+
+    /**
+     * 기존 인스턴스로 대체한 횟수
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * 대체로 줄인 대략적인 힙 사용량 (bytes)
+     */
+    public long getSavedBytes() {
+        return savedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("고유 %d개, 재사용 %d회, 약 %dKB 절약", pool.size(), hitCount, savedBytes / 1024);
+    }
+}
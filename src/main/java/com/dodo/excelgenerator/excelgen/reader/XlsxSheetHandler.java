@@ -0,0 +1,168 @@
+package com.dodo.excelgenerator.excelgen.reader;
+
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.util.Arrays;
+
+/**
+ * 시트 XML SAX 핸들러
+ * - &lt;row&gt; 가 끝날 때마다 SheetRowHandler 호출
+ * - 셀 값 변환 규칙은 DOM 경로와 같은 CellValueConverter 사용
+ * - 공유 문자열은 인덱스별로 한 번만 문자열로 만들고, 나머지 값도 StringInterner 로 중복 제거
+ */
+class XlsxSheetHandler extends DefaultHandler {
+
+    private final SharedStrings sharedStrings;
+    private final CellValueConverter converter;
+    private final SheetRowHandler rowHandler;
+    private final StringInterner interner;
+
+    // 공유 문자열 인덱스별 변환 결과 캐시
+    private String[] sharedStringCache = new String[0];
+
+    private final SheetRow row = new SheetRow();
+    private final StringBuilder value = new StringBuilder();
+    private int rowIdx = -1;
+    private int nextCol;
+    private boolean stopped;
+
+    // 현재 셀 상태
+    private boolean inCell;
+    private boolean inValue;
+    private boolean inInlineText;
+    private boolean inPhonetic;
+    private int col;
+    private String cellType;
+    private int styleIdx;
+    private boolean hasFormula;
+
+    XlsxSheetHandler(SharedStrings sharedStrings, StylesTable styles, boolean date1904,
+                     SheetRowHandler rowHandler, StringInterner interner) {
+        this.sharedStrings = sharedStrings;
+        this.converter = CellValueConverter.forStyles(styles, date1904);
+        this.rowHandler = rowHandler;
+        this.interner = interner;
+    }
+
+    /**
+     * SheetRowHandler 가 false 를 반환해 중단되었는지 여부
+     */
+    boolean isStopped() {
+        return stopped;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attrs) {
+        switch (localName) {
+            case "row" -> {
+                String r = attrs.getValue("r");
+                rowIdx = r != null ? Integer.parseInt(r) - 1 : rowIdx + 1;
+                nextCol = 0;
+                row.clear();
+            }
+            case "c" -> {
+                String ref = attrs.getValue("r");
+                col = ref != null ? columnIndex(ref) : nextCol;
+                cellType = attrs.getValue("t");
+                String s = attrs.getValue("s");
+                styleIdx = s != null ? Integer.parseInt(s) : 0;
+                hasFormula = false;
+                inCell = true;
+                value.setLength(0);
+            }
+            case "f" -> hasFormula = inCell;
+            case "v" -> inValue = inCell;
+            case "rPh" -> inPhonetic = true;
+            case "t" -> inInlineText = inCell && !inPhonetic;
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+        switch (localName) {
+            case "v" -> inValue = false;
+            case "t" -> inInlineText = false;
+            case "rPh" -> inPhonetic = false;
+            case "c" -> {
+                row.add(col, interner.intern(convertCellValue()));
+                nextCol = col + 1;
+                inCell = false;
+            }
+            case "row" -> {
+                if (!rowHandler.handleRow(rowIdx, row)) {
+                    stopped = true;
+                    throw new SAXException("행 읽기 중단");
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (inValue || inInlineText) {
+            value.append(ch, start, length);
+        }
+    }
+
+    /**
+     * 셀 값을 문자열로 변환 (DOM 경로와 동일한 결과)
+     */
+    private String convertCellValue() {
+        String raw = value.toString();
+
+        if (cellType == null || "n".equals(cellType)) {
+            if (raw.isEmpty()) {
+                // 값 없는 수식은 DOM 에서 0.0 으로 읽힘
+                return hasFormula ? "0.0" : "";
+            }
+            double d = Double.parseDouble(raw);
+            return hasFormula ? CellValueConverter.formatFormulaNumber(d) : converter.convertNumber(d, styleIdx);
+        }
+
+        return switch (cellType) {
+            case "s" -> raw.isEmpty() ? "" : sharedString(Integer.parseInt(raw.trim()));
+            case "inlineStr", "str" -> raw;
+            case "b" -> raw.isEmpty() ? "" : CellValueConverter.formatBoolean("1".equals(raw) || "true".equalsIgnoreCase(raw));
+            default -> "";  // e (오류) 등
+        };
+    }
+
+    /**
+     * 공유 문자열 (처음 참조할 때 한 번만 변환)
+     */
+    private String sharedString(int idx) {
+        if (idx >= sharedStringCache.length) {
+            sharedStringCache = Arrays.copyOf(sharedStringCache,
+                    Math.max(idx + 1, Math.min(sharedStrings.getUniqueCount(), sharedStringCache.length * 2 + 16)));
+        }
+        String value = sharedStringCache[idx];
+        if (value == null) {
+            value = interner.intern(sharedStrings.getItemAt(idx).getString());
+            sharedStringCache[idx] = value;
+        }
+        return value;
+    }
+
+    /**
+     * "AB12" 같은 셀 참조에서 0-based 열 번호 추출
+     */
+    private static int columnIndex(String ref) {
+        int col = 0;
+        for (int i = 0; i < ref.length(); i++) {
+            char c = ref.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            col = col * 26 + (c - 'A' + 1);
+        }
+        return col - 1;
+    }
+}
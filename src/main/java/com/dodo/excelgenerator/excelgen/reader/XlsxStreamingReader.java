@@ -0,0 +1,65 @@
+package com.dodo.excelgenerator.excelgen.reader;
+
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+
+/**
+ * .xlsx 스트리밍 리더 (POI 이벤트 모델)
+ * - WorkbookFactory 처럼 전체 객체 모델을 만들지 않고 시트 XML 을 SAX 로 한 행씩 읽음
+ * - 공유 문자열 테이블을 제외하면 힙 사용량이 시트 크기와 무관
+ * - 실제 읽기는 XlsxWorkbookSource (여러 시트를 읽을 때는 open 으로 한 번 열어서 사용)
+ */
+@Component
+public class XlsxStreamingReader {
+
+    /**
+     * .xlsx (OOXML) 파일인지 확인 - 아니면 DOM 경로(.xls)로 처리
+     */
+    public boolean supports(MultipartFile file) throws IOException {
+        try (InputStream in = FileMagic.prepareToCheckMagic(file.getInputStream())) {
+            return FileMagic.valueOf(in) == FileMagic.OOXML;
+        }
+    }
+
+    /**
+     * 업로드 파일의 첫 번째 시트를 읽으면서 행마다 handler 호출
+     */
+    public void read(MultipartFile file, SheetRowHandler handler) throws IOException {
+        try (XlsxWorkbookSource source = open(file)) {
+            source.readSheet(0, handler);
+        }
+    }
+
+    /**
+     * 업로드 파일 열기 - 시트 목록을 보고 원하는 시트를 (병렬로) 읽을 때
+     * - zip 을 임의 접근해야 하므로 임시 파일로 내려받은 뒤 읽음 (close 시 삭제)
+     * - 내려받으면서 내용 해시도 계산 (파싱 결과 캐시 조회에 파일을 다시 읽지 않도록)
+     */
+    public XlsxWorkbookSource open(MultipartFile file) throws IOException {
+        Path tempFile = Files.createTempFile("excelgen-", ".xlsx");
+        try (DigestInputStream in = ContentHash.digesting(file.getInputStream())) {
+            Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            return new XlsxWorkbookSource(tempFile, true, ContentHash.hex(in));
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * .xlsx 파일의 첫 번째 시트를 읽으면서 행마다 handler 호출
+     */
+    public void read(Path path, SheetRowHandler handler) throws IOException {
+        try (XlsxWorkbookSource source = new XlsxWorkbookSource(path, false, null)) {
+            source.readSheet(0, handler);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.dodo.excelgenerator.excelgen.reader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 열어 둔 .xlsx 파일 - 시트 목록과 공유 문자열 테이블을 한 번만 읽고 시트별로 스트리밍
+ * - 시트 목록/공유 문자열은 처음 필요할 때 읽음 (캐시 적중으로 시트를 읽지 않으면 열지도 않음)
+ * - readSheet 는 여러 스레드에서 동시에 호출 가능
+ *   (시트마다 패키지를 따로 열고, 읽기 전용 공유 문자열 테이블만 함께 씀)
+ * - close() 하면 (업로드에서 만든 경우) 임시 파일도 삭제
+ */
+@Slf4j
+public class XlsxWorkbookSource implements Closeable {
+
+    private final Path path;
+    private final boolean deleteOnClose;
+    private final String contentHash;
+    private Metadata metadata;
+
+    XlsxWorkbookSource(Path path, boolean deleteOnClose, String contentHash) {
+        this.path = path;
+        this.deleteOnClose = deleteOnClose;
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * 업로드에서 내려받으면서 계산한 내용 해시 (ContentHash, 경로로 연 경우 null)
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * 시트 이름 목록 (통합 문서 순서)
+     */
+    public List<String> getSheetNames() throws IOException {
+        return metadata().sheetNames();
+    }
+
+    /**
+     * index 번째 시트를 읽으면서 행마다 handler 호출
+     */
+    public void readSheet(int index, SheetRowHandler handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(path.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            // 스타일 테이블은 읽는 중에 객체를 만들므로 시트마다 따로 읽음 (크기가 작음)
+            StylesTable styles = reader.getStylesTable();
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            for (int i = 0; i < index && sheets.hasNext(); i++) {
+                sheets.next().close();
+            }
+            if (!sheets.hasNext()) {
+                return;
+            }
+
+            Metadata metadata = metadata();
+            StringInterner interner = new StringInterner();
+            XlsxSheetHandler sheetHandler = new XlsxSheetHandler(metadata.sharedStrings(), styles, metadata.date1904(),
+                    handler, interner);
+            try (InputStream sheet = sheets.next()) {
+                XMLReader xmlReader = XMLHelper.newXMLReader();
+                xmlReader.setContentHandler(sheetHandler);
+                xmlReader.parse(new InputSource(sheet));
+            } catch (SAXException e) {
+                // handler 가 false 를 반환한 경우는 정상 종료
+                if (!sheetHandler.isStopped()) {
+                    throw e;
+                }
+                log.debug("시트 읽기 중단: {} [{}]", path.getFileName(), index);
+            }
+            log.debug("문자열 중복 제거 - {}", interner);
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("xlsx 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (deleteOnClose) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * 시트 목록/공유 문자열/날짜 기준 - 처음 한 번만 읽음
+     */
+    private synchronized Metadata metadata() throws IOException {
+        if (metadata == null) {
+            try (OPCPackage pkg = OPCPackage.open(path.toFile(), PackageAccess.READ)) {
+                XSSFReader reader = new XSSFReader(pkg);
+                metadata = new Metadata(new ReadOnlySharedStringsTable(pkg), isDate1904(reader), readSheetNames(reader));
+            } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+                throw new IOException("xlsx 파싱 실패: " + e.getMessage(), e);
+            }
+        }
+        return metadata;
+    }
+
+    private static List<String> readSheetNames(XSSFReader reader) throws IOException, OpenXML4JException {
+        List<String> names = new ArrayList<>();
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while (sheets.hasNext()) {
+            sheets.next().close();
+            names.add(sheets.getSheetName());
+        }
+        return List.copyOf(names);
+    }
+
+    /**
+     * workbook.xml 의 date1904 설정 확인 (날짜 셀 변환에 필요)
+     */
+    private static boolean isDate1904(XSSFReader reader)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        boolean[] date1904 = {false};
+        try (InputStream in = reader.getWorkbookData()) {
+            XMLReader xmlReader = XMLHelper.newXMLReader();
+            xmlReader.setContentHandler(new DefaultHandler() {
+                @Override
+                public void startElement(String uri, String localName, String qName, Attributes attrs) {
+                    if ("workbookPr".equals(localName)) {
+                        String value = attrs.getValue("date1904");
+                        date1904[0] = "1".equals(value) || "true".equalsIgnoreCase(value);
+                    }
+                }
+            });
+            xmlReader.parse(new InputSource(in));
+        }
+        return date1904[0];
+    }
+
+    private record Metadata(ReadOnlySharedStringsTable sharedStrings, boolean date1904, List<String> sheetNames) {
+    }
+}
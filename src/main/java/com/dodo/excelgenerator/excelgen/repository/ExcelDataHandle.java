@@ -0,0 +1,20 @@
+package com.dodo.excelgenerator.excelgen.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 세션에 저장하는 데이터 핸들 - 실제 테이블은 ExcelRepository 에 있고 세션에는 키만 둠
+ */
+@Getter
+@RequiredArgsConstructor
+public class ExcelDataHandle implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String SESSION_KEY = "excelData";
+
+    private final String key;   // ExcelRepository 저장 키 (최초 저장 시점의 세션 ID)
+}
@@ -1,4 +1,408 @@
 package com.dodo.excelgenerator.excelgen.repository;
 
-public class ExcelRepository {
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
+import com.dodo.excelgenerator.excelgen.table.ExcelTable;
+import com.dodo.excelgenerator.excelgen.table.HeaderFingerprint;
+import com.dodo.excelgenerator.excelgen.table.TableCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 세션별 엑셀 데이터 저장소
+ * - 세션에는 ExcelDataHandle(키)만 두고 테이블은 여기에 보관
+ * - 메모리에 올라간 테이블 합계가 memoryBudget 을 넘으면 가장 오래 안 쓴(LRU) 테이블부터 파일로 내림
+ * - 내려간 테이블은 다음 조회 때 memory-mapped 파일에서 다시 읽어 옴
+ * - 조회는 스냅샷(ExcelTable.snapshot)을 돌려줌 - 잠금을 놓은 뒤 오래 읽어도 (스트리밍 다운로드 등)
+ *   그 사이의 수정/추가/합치기/파일로 내리기와 무관하게 조회 시점 값 그대로
+ *   (저장된 테이블은 이 클래스의 잠금 안에서만 만지고, 스냅샷과 공유 중인 컬럼은 고칠 때 복사)
+ *   다 읽은 스냅샷은 release - 공유 표시를 풀어서 다음 수정이 컬럼 전체를 복사하지 않도록
+ * - 화면 행 구간처럼 짧은 조회는 read - 스냅샷 없이 잠금 안에서 바로 읽음 (공유 표시 없음)
+ * - append 는 새 행을 구간으로 매달기만 함 (기존 테이블 복사/재기록 없음, 파일로 내려가 있어도 읽어 오지 않음)
+ *   rows 의 헤더는 병합 기준으로 삼은 헤더 - 그 사이 열 이동/이름 변경/데이터 교체로 저장된 헤더와 다르면
+ *   구성이 같을 때만 저장된 순서로 옮겨서 붙임 (다르면 거절)
+ *   구간이 compactSegments 개 쌓이면 백그라운드 스레드에서 합침 (합친 컬럼은 잠금 밖에서 따로 만들고 잠금 안에서 교체)
+ */
+@Slf4j
+@Repository
+public class ExcelRepository implements DisposableBean {
+
+    private final long memoryBudget;
+    private final Path spillDir;
+    private final int compactSegments;
+    private final ExecutorService compactor;
+
+    // access-order LinkedHashMap = LRU 순서 (가장 오래 안 쓴 항목이 앞)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long inMemoryBytes;
+
+    public ExcelRepository(ExcelProperties excelProperties) throws IOException {
+        ExcelProperties.Store store = excelProperties.getStore();
+        this.memoryBudget = store.getMemoryBudget().toBytes();
+        this.spillDir = StringUtils.hasText(store.getSpillDir())
+                ? Files.createDirectories(Path.of(store.getSpillDir()))
+                : Files.createTempDirectory("excelgen-store-");
+        this.compactSegments = Math.max(store.getCompactSegments(), 1);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("excel-compact-");
+        threadFactory.setDaemon(true);
+        this.compactor = Executors.newSingleThreadExecutor(threadFactory);
+        log.info("엑셀 데이터 저장소 - 메모리 한도: {}MB, 파일 경로: {}", memoryBudget / (1024 * 1024), spillDir);
+    }
+
+    /**
+     * 데이터 조회 (파일로 내려가 있으면 다시 메모리로 읽음) - 읽기 전용 스냅샷 (다 읽으면 release)
+     */
+    public synchronized Optional<ExcelResponseDto> findById(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.table == null) {
+            load(entry);
+            evictIfNeeded(key);
+        }
+        return Optional.of(ExcelResponseDto.of(entry.table.snapshot(), entry.fileName));
+    }
+
+    /**
+     * 저장된 테이블을 잠금 안에서 바로 읽음 (스냅샷 없음) - 행 구간처럼 짧은 조회용
+     * - reader 밖으로 테이블이나 행 뷰를 내보내면 안 됨 (필요한 값은 복사해서 반환)
+     */
+    public synchronized <T> Optional<T> read(String key, Function<ExcelTable, T> reader) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.table == null) {
+            load(entry);
+            evictIfNeeded(key);
+        }
+        return Optional.ofNullable(reader.apply(entry.table));
+    }
+
+    /**
+     * findById 로 받은 스냅샷을 다 읽음 - 저장된 테이블의 공유 표시를 풀어 줌 (이후에는 data 를 읽지 않음)
+     * - 그 사이 파일로 내려가거나 삭제되었으면 풀 것이 없음
+     */
+    public synchronized void release(ExcelResponseDto data) {
+        if (data != null) {
+            data.getTable().release();
+        }
+    }
+
+    /**
+     * 기존 데이터 뒤에 행 추가 - rows 테이블을 그대로 구간으로 매닮 (없으면 save 와 같음)
+     * - rows 의 헤더는 병합할 때 기준으로 삼은 (조회 시점의) 헤더, 추가한 뒤에는 rows 를 수정하면 안 됨
+     * - 그 사이 열 이동/이름 변경 등으로 저장된 헤더가 바뀌었으면 저장된 순서로 옮긴 복사본을 붙임
+     *
+     * @throws IllegalStateException 그 사이 열 추가/삭제 등으로 컬럼 구성이 달라짐
+     */
+    public synchronized void append(String key, ExcelResponseDto rows) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            save(key, rows);
+            return;
+        }
+
+        ExcelTable segment = rows.getTable();
+        if (!entry.headers.equals(segment.getHeaders())) {
+            segment = realign(segment, entry.headers);
+            log.info("추가할 행을 바뀐 컬럼 순서로 맞춤 - key: {}", key);
+        }
+        long bytes = segment.estimatedBytes();
+        if (entry.table != null) {
+            entry.table.appendSegment(segment);
+        } else {
+            // 파일로 내려가 있으면 다음에 읽어 올 때 붙임
+            entry.pending.add(segment);
+            entry.pendingBytes += bytes;
+        }
+        entry.bytes += bytes;
+        inMemoryBytes += bytes;
+
+        if (entry.table != null && entry.table.getSegmentCount() >= compactSegments) {
+            scheduleCompaction(key, entry);
+        }
+        evictIfNeeded(key);
+    }
+
+    /**
+     * 데이터 저장 (같은 키가 있으면 교체)
+     */
+    public synchronized void save(String key, ExcelResponseDto data) {
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            discard(previous);
+        }
+
+        Entry entry = new Entry(data.getFileName(), data.getTable());
+        entries.put(key, entry);
+        inMemoryBytes += entry.bytes;
+        evictIfNeeded(key);
+    }
+
+    /**
+     * 저장된 테이블을 제자리에서 수정 (수정 중에는 파일로 내려가지 않음)
+     * - 이미 돌려준 스냅샷은 바뀌지 않음 (updater 밖으로 테이블을 내보내면 안 됨)
+     *
+     * @return 데이터가 없으면 false
+     */
+    public synchronized boolean update(String key, Consumer<ExcelTable> updater) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.table == null) {
+            load(entry);
+        }
+
+        try {
+            updater.accept(entry.table);
+        } finally {
+            // 수정으로 바뀐 크기/컬럼 수 반영
+            entry.headers = new ArrayList<>(entry.table.getHeaders());
+            inMemoryBytes -= entry.bytes;
+            entry.bytes = entry.table.estimatedBytes();
+            inMemoryBytes += entry.bytes;
+            evictIfNeeded(key);
+        }
+        return true;
+    }
+
+    /**
+     * 저장된 테이블 크기 다시 계산 - 조회로 컬럼 색인이 생기는 등 수정 없이 크기가 바뀐 뒤
+     * (스냅샷에서 만든 색인도 같은 버전이면 저장된 테이블과 공유)
+     */
+    public synchronized void refreshSize(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.table == null) {
+            return;
+        }
+        inMemoryBytes -= entry.bytes;
+        entry.bytes = entry.table.estimatedBytes();
+        inMemoryBytes += entry.bytes;
+        evictIfNeeded(key);
+    }
+
+    /**
+     * 데이터 삭제
+     */
+    public synchronized void deleteById(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            discard(entry);
+        }
+    }
+
+    /**
+     * 메모리에 올라가 있는 테이블의 대략적인 크기 합계 (bytes)
+     */
+    public synchronized long getInMemoryBytes() {
+        return inMemoryBytes;
+    }
+
+    /**
+     * 가장 큰 세션 테이블의 대략적인 크기 (bytes, 파일로 내려간 항목 포함)
+     */
+    public synchronized long getLargestEntryBytes() {
+        long largest = 0;
+        for (Entry entry : entries.values()) {
+            largest = Math.max(largest, entry.bytes);
+        }
+        return largest;
+    }
+
+    /**
+     * 저장된 세션 데이터 수
+     */
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * 파일로 내려가 있는 세션 데이터 수
+     */
+    public synchronized int getSpilledCount() {
+        int spilled = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.table == null) {
+                spilled++;
+            }
+        }
+        return spilled;
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        compactor.shutdownNow();
+        entries.clear();
+        FileSystemUtils.deleteRecursively(spillDir);
+    }
+
+    /**
+     * 메모리 한도를 넘으면 LRU 순서로 파일로 내림 (방금 사용한 keep 항목은 제외)
+     */
+    private void evictIfNeeded(String keep) {
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (inMemoryBytes > memoryBudget && it.hasNext()) {
+            Map.Entry<String, Entry> candidate = it.next();
+            if (!candidate.getKey().equals(keep) && candidate.getValue().table != null) {
+                spill(candidate.getKey(), candidate.getValue());
+            }
+        }
+    }
+
+    /**
+     * 매달린 구간 합치기를 백그라운드로
+     * - 합친 컬럼은 잠금 밖에서 새로 만들고, 교체만 잠금 안에서 (그 동안 조회/추가/수정이 기다리지 않음)
+     */
+    private void scheduleCompaction(String key, Entry entry) {
+        if (entry.compactScheduled) {
+            return;
+        }
+        entry.compactScheduled = true;
+        try {
+            compactor.execute(() -> compact(key, entry));
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - 다음 수정/저장 때 합쳐짐
+            entry.compactScheduled = false;
+        }
+    }
+
+    /**
+     * 구간 합치기 (합치기 스레드) - 잡아 둔 뒤 수정/파일로 내리기가 있었으면 결과를 버림
+     * (수정할 때는 그 전에 직접 합치므로 버려도 합쳐지지 않은 채로 남지 않음)
+     */
+    private void compact(String key, Entry entry) {
+        ExcelTable table;
+        ExcelTable.Compaction compaction;
+        synchronized (this) {
+            entry.compactScheduled = false;
+            if (entry.discarded || entry.table == null) {
+                return;
+            }
+            table = entry.table;
+            compaction = table.startCompaction();
+        }
+
+        compaction.build();
+
+        synchronized (this) {
+            if (entry.discarded || entry.table != table || !table.finishCompaction(compaction)) {
+                log.debug("테이블 구간 합침 취소 (그 사이 바뀜) - key: {}", key);
+                return;
+            }
+            inMemoryBytes -= entry.bytes;
+            entry.bytes = table.estimatedBytes();
+            inMemoryBytes += entry.bytes;
+            log.debug("테이블 구간 합침 - key: {}, 구간 {}개", key, compaction.getSegmentCount());
+        }
+    }
+
+    /**
+     * 병합 기준 헤더 순서의 segment 를 지금 저장된 헤더 순서로 옮긴 복사본 (HeaderFingerprint 순열)
+     *
+     * @throws IllegalStateException 컬럼 구성이 다름
+     */
+    private static ExcelTable realign(ExcelTable segment, List<String> headers) {
+        int[] permutation = HeaderFingerprint.of(headers).permutationFrom(HeaderFingerprint.of(segment.getHeaders()));
+        if (permutation == null) {
+            throw new IllegalStateException("저장된 데이터의 컬럼 구성이 바뀌었습니다. 다시 업로드해주세요.");
+        }
+        ExcelTable realigned = new ExcelTable(headers);
+        realigned.appendAll(segment, permutation);
+        return realigned;
+    }
+
+    private void spill(String key, Entry entry) {
+        try {
+            Path file = spillDir.resolve(key + ".xtb");
+            TableCodec.write(entry.table, file);
+            entry.spillFile = file;
+            entry.table = null;
+            inMemoryBytes -= entry.bytes;
+            log.debug("테이블 파일로 내림 - key: {}, {}KB", key, entry.bytes / 1024);
+        } catch (IOException e) {
+            // 내리지 못하면 메모리에 그대로 둠
+            log.warn("테이블 파일 저장 실패 - key: {}", key, e);
+        }
+    }
+
+    private void load(Entry entry) {
+        try {
+            entry.table = TableCodec.read(entry.spillFile);
+            for (ExcelTable segment : entry.pending) {
+                entry.table.appendSegment(segment);
+            }
+            entry.pending.clear();
+            // 매달려 있던 구간은 이미 메모리 합계에 들어 있음
+            inMemoryBytes -= entry.pendingBytes;
+            entry.pendingBytes = 0;
+            entry.bytes = entry.table.estimatedBytes();
+            inMemoryBytes += entry.bytes;
+            Files.deleteIfExists(entry.spillFile);
+            entry.spillFile = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("저장된 테이블 읽기 실패: " + entry.spillFile, e);
+        }
+    }
+
+    private void discard(Entry entry) {
+        entry.discarded = true;
+        if (entry.table != null) {
+            inMemoryBytes -= entry.bytes;
+        } else {
+            inMemoryBytes -= entry.pendingBytes;
+        }
+        if (entry.spillFile != null) {
+            try {
+                Files.deleteIfExists(entry.spillFile);
+            } catch (IOException e) {
+                log.warn("저장 파일 삭제 실패: {}", entry.spillFile, e);
+            }
+        }
+    }
+
+    /**
+     * 저장 항목 - table 이 null 이면 spillFile 에 있고, 그 사이 추가된 행은 pending 에 둠
+     */
+    private static class Entry {
+
+        private final String fileName;
+        private List<String> headers;       // 지금 헤더 (파일로 내려가 있어도 append 때 비교)
+        private ExcelTable table;
+        private Path spillFile;
+        private long bytes;
+        private final List<ExcelTable> pending = new ArrayList<>();
+        private long pendingBytes;
+        private boolean compactScheduled;
+        private boolean discarded;
+
+        Entry(String fileName, ExcelTable table) {
+            this.fileName = fileName;
+            this.headers = new ArrayList<>(table.getHeaders());
+            this.table = table;
+            this.bytes = table.estimatedBytes();
+        }
+    }
 }
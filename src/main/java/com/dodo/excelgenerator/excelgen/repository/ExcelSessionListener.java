@@ -0,0 +1,27 @@
+package com.dodo.excelgenerator.excelgen.repository;
+
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션 만료 시 저장소의 데이터도 함께 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExcelSessionListener implements HttpSessionListener {
+
+    private final ExcelRepository excelRepository;
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        Object handle = event.getSession().getAttribute(ExcelDataHandle.SESSION_KEY);
+        if (handle instanceof ExcelDataHandle dataHandle) {
+            excelRepository.deleteById(dataHandle.getKey());
+            log.debug("세션 만료로 데이터 삭제 - key: {}", dataHandle.getKey());
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
+import com.dodo.excelgenerator.excelgen.dto.TemplateConfigDto;
+import com.dodo.excelgenerator.excelgen.metrics.ExcelMetrics;
+import com.dodo.excelgenerator.excelgen.progress.ProgressListener;
+import com.dodo.excelgenerator.excelgen.reader.CsvStreamingReader;
+import com.dodo.excelgenerator.excelgen.reader.SheetRow;
+import com.dodo.excelgenerator.excelgen.reader.SheetRowHandler;
+import com.dodo.excelgenerator.excelgen.reader.SheetSelection;
+import com.dodo.excelgenerator.excelgen.reader.XlsxStreamingReader;
+import com.dodo.excelgenerator.excelgen.reader.XlsxWorkbookSource;
+import com.dodo.excelgenerator.excelgen.table.ExcelTable;
+import com.dodo.excelgenerator.excelgen.table.HeaderFingerprint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 변환 (여러 업로드 파일 → 다운로드 파일 하나) - 테이블에 모으지 않고 읽는 대로 바로 씀
+ * - 읽기(생산자)는 전용 스레드에서 파일/시트 순서대로, 쓰기(소비자)는 응답 스레드에서
+ * - 둘 사이는 크기가 정해진 큐 (batchRows 행 묶음 queueCapacity 개) - 쓰기가 느리면 읽기가 기다림 (배압)
+ *   → 메모리에는 큐에 든 행과 SXSSF 윈도우만 남음 (파일 수, 행 수와 무관)
+ * - 일반 모드: 첫 시트 헤더가 기준, 이후 시트는 컬럼 구성이 같으면 기준 순서로 맞추고 다르면 건너뜀
+ * - 템플릿 모드: 추출 규칙은 템플릿 파싱과 같고, 가져오기처럼 위치 기준으로 이어 붙임
+ * - .xls 는 스트리밍 리더가 없어 시트 단위로 파싱한 뒤 넘김 (형식상 시트당 최대 65,536행)
+ * - 행을 넘기기 전에 읽기에 실패한 파일은 건너뛰고 (그 파일의 헤더도 기준으로 쓰지 않음), 건너뛴 파일/시트는
+ *   진행 상황(ProgressListener.onSkipped)으로 알림
+ */
+@Slf4j
+@Service
+public class ConvertService implements DisposableBean {
+
+    private final XlsxStreamingReader xlsxStreamingReader;
+    private final CsvStreamingReader csvStreamingReader;
+    private final TemplatePlanCache templatePlanCache;
+    private final ExcelService excelService;
+    private final TemplateParsingService templateParsingService;
+    private final ExcelMetrics excelMetrics;
+
+    private final int queueCapacity;
+    private final int batchRows;
+    private final long stallTimeoutMs;
+    private final ThreadPoolExecutor executor;
+
+    public ConvertService(XlsxStreamingReader xlsxStreamingReader,
+                          CsvStreamingReader csvStreamingReader,
+                          TemplatePlanCache templatePlanCache,
+                          ExcelService excelService,
+                          TemplateParsingService templateParsingService,
+                          ExcelMetrics excelMetrics,
+                          ExcelProperties excelProperties) {
+        this.xlsxStreamingReader = xlsxStreamingReader;
+        this.csvStreamingReader = csvStreamingReader;
+        this.templatePlanCache = templatePlanCache;
+        this.excelService = excelService;
+        this.templateParsingService = templateParsingService;
+        this.excelMetrics = excelMetrics;
+
+        ExcelProperties.Convert convert = excelProperties.getConvert();
+        this.queueCapacity = Math.max(convert.getQueueCapacity(), 1);
+        this.batchRows = Math.max(convert.getBatchRows(), 1);
+        this.stallTimeoutMs = convert.getStallTimeout().toMillis();
+
+        // 대기열 없이 동시 실행 수만큼만 받음 (넘으면 RejectedExecutionException)
+        int concurrency = Math.max(convert.getConcurrency(), 1);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("excel-convert-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), threadFactory);
+        log.info("변환 - 동시 실행: {}, 큐: {} x {}행", concurrency, queueCapacity, batchRows);
+    }
+
+    /**
+     * 변환 시작 - 읽기 스레드를 띄우고 바로 반환, 결과는 Conversion.writeTo 로 기록
+     * - files 는 writeTo 가 끝날 때까지 읽을 수 있어야 함
+     *
+     * @param config 템플릿 모드면 설정, 일반 모드면 null
+     * @throws RejectedExecutionException 동시에 실행 중인 변환이 너무 많음
+     */
+    public Conversion start(List<MultipartFile> files, TemplateConfigDto config, SheetSelection selection,
+                            ProgressListener listener) {
+        Conversion conversion = new Conversion(config != null ? ExcelMetrics.MODE_TEMPLATE : ExcelMetrics.MODE_GENERIC);
+        Producer producer = new Producer(conversion.queue, files, config, selection, listener);
+        conversion.producer = executor.submit(producer);
+        return conversion;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 진행 중인 변환 하나 - 큐에서 꺼내서 쓰는 쪽
+     */
+    public final class Conversion {
+
+        private final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final String mode;
+        private final long start = System.nanoTime();
+        private Future<?> producer;
+
+        private Conversion(String mode) {
+            this.mode = mode;
+        }
+
+        /**
+         * 읽는 대로 out 에 기록 (format: xlsx, csv, tsv) - 끝나거나 실패하면 읽기 스레드도 정리
+         */
+        public void writeTo(String format, OutputStream out, ProgressListener listener) throws IOException {
+            boolean succeeded = false;
+            long waitNanos = 0;
+            try (ExcelService.RowExport export = excelService.openExport(format, out, listener)) {
+                boolean headersWritten = false;
+                while (true) {
+                    Message message = take();
+                    if (message instanceof Header header) {
+                        export.headers(header.headers());
+                        headersWritten = true;
+                    } else if (message instanceof Rows rows) {
+                        for (List<String> row : rows.rows()) {
+                            export.row(row);
+                        }
+                    } else if (message instanceof Failure failure) {
+                        throw new IOException("변환 실패: " + failure.cause().getMessage(), failure.cause());
+                    } else if (message instanceof End end) {
+                        if (!headersWritten) {
+                            export.headers(List.of());
+                        }
+                        export.finish();
+                        if (!end.skipped().isEmpty()) {
+                            log.warn("변환 - 건너뛴 시트/파일: {}", end.skipped());
+                            end.skipped().forEach(listener::onSkipped);
+                        }
+                        waitNanos = end.waitNanos();
+                        succeeded = true;
+                        return;
+                    }
+                }
+            } finally {
+                // 쓰기가 먼저 실패했으면 읽기 중단 (이미 끝났으면 영향 없음)
+                producer.cancel(true);
+                excelMetrics.recordConvert(mode, start, succeeded, waitNanos);
+            }
+        }
+
+        /**
+         * 읽기 스레드가 마지막 메시지 없이 끝났으면 (거절, 종료 등) 기다리지 않음
+         */
+        private Message take() throws IOException {
+            try {
+                while (true) {
+                    Message message = queue.poll(1, TimeUnit.SECONDS);
+                    if (message != null) {
+                        return message;
+                    }
+                    if (producer.isDone() && queue.isEmpty()) {
+                        throw new IOException("변환 읽기 작업이 중단되었습니다.");
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("변환 중단");
+            }
+        }
+    }
+
+    /**
+     * 읽는 쪽 - 파일/시트 순서대로 읽어서 행 묶음으로 큐에 넣음
+     */
+    private final class Producer implements Runnable, RowSink {
+
+        private final BlockingQueue<Message> queue;
+        private final List<MultipartFile> files;
+        private final TemplateConfigDto config;
+        private final SheetSelection selection;
+        private final ProgressListener listener;
+        private final TemplatePlan plan;            // 일반 모드면 null
+
+        private List<String> baseHeaders;
+        private boolean headerSent;                 // 기준 헤더는 첫 행 묶음과 함께 보냄
+        private HeaderFingerprint baseFingerprint;
+        private int[] permutation;                  // 현재 시트 컬럼 → 기준 순서 (같은 순서면 null)
+        private String current;                     // 현재 시트 이름
+
+        private List<List<String>> batch;
+        private long emitted;
+        private long waitNanos;
+        private final List<String> skipped = new ArrayList<>();
+
+        Producer(BlockingQueue<Message> queue, List<MultipartFile> files, TemplateConfigDto config,
+                 SheetSelection selection, ProgressListener listener) {
+            this.queue = queue;
+            this.files = files;
+            this.config = config;
+            this.selection = selection;
+            this.listener = listener;
+            this.plan = config != null ? templatePlanCache.get(config) : null;
+            this.batch = new ArrayList<>(batchRows);
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (MultipartFile file : files) {
+                    long emittedBefore = emitted;
+                    boolean hadBase = baseHeaders != null;
+                    try {
+                        readFile(file);
+                    } catch (IOException | RuntimeException e) {
+                        // 이미 일부 행을 넘겼으면 결과가 어긋나므로 전체 실패, 아니면 파일만 건너뜀
+                        if (e instanceof CancellationException || Thread.currentThread().isInterrupted()
+                                || emitted > emittedBefore) {
+                            throw e;
+                        }
+                        if (!hadBase) {
+                            // 이 파일의 헤더가 기준이 되었으면 취소 (아직 보내지 않음 - 행과 함께 보내므로)
+                            baseHeaders = null;
+                            baseFingerprint = null;
+                        }
+                        log.warn("변환 - 파일 읽기 실패, 건너뜀: {} ({})", file.getOriginalFilename(), e.getMessage());
+                        skipped.add(file.getOriginalFilename() + " (읽기 실패)");
+                    }
+                }
+                flush();
+                // 행이 하나도 없어도 헤더는 기록
+                sendHeader();
+                send(new End(skipped, waitNanos));
+            } catch (CancellationException e) {
+                log.debug("변환 읽기 중단 - 쓰는 쪽이 먼저 끝남");
+            } catch (Exception e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.debug("변환 읽기 중단 - 쓰는 쪽이 먼저 끝남");
+                    return;
+                }
+                log.warn("변환 실패", e);
+                try {
+                    send(new Failure(e));
+                } catch (RuntimeException ignored) {
+                    // 쓰는 쪽이 이미 끝남 (쓰는 쪽은 읽기 스레드 종료를 보고 멈춤)
+                }
+            }
+        }
+
+        private void readFile(MultipartFile file) throws IOException {
+            String fileName = file.getOriginalFilename();
+            if (csvStreamingReader.supports(file)) {
+                readSheet(fileName, handler -> csvStreamingReader.read(file, handler));
+            } else if (xlsxStreamingReader.supports(file)) {
+                try (XlsxWorkbookSource source = xlsxStreamingReader.open(file)) {
+                    List<String> sheetNames = source.getSheetNames();
+                    for (int index : selection.select(sheetNames)) {
+                        readSheet(selection.label(fileName, sheetNames.get(index)),
+                                handler -> source.readSheet(index, handler));
+                    }
+                }
+            } else {
+                List<ExcelResponseDto> sheets = plan == null
+                        ? excelService.parseSheets(file, selection, listener)
+                        : templateParsingService.parseTemplateSheets(file, config, selection, listener);
+                for (ExcelResponseDto sheet : sheets) {
+                    current = sheet.getFileName();
+                    if (headers(sheet.getHeaders())) {
+                        ExcelTable table = sheet.getTable();
+                        for (int i = 0; i < table.getRowCount(); i++) {
+                            row(table.getRow(i));
+                        }
+                    }
+                }
+            }
+        }
+
+        private void readSheet(String label, SheetSource source) throws IOException {
+            current = label;
+            if (plan == null) {
+                source.read(new GenericSheet());
+            } else {
+                TemplateExtractor extractor = new TemplateExtractor(plan, listener, this);
+                source.read(extractor);
+                extractor.finishRows();
+            }
+        }
+
+        /**
+         * 시트 헤더 - 처음 나온 헤더가 기준 (빈 시트는 기준이 되지 않음, 보내는 것은 첫 행 묶음과 함께)
+         */
+        @Override
+        public boolean headers(List<String> headers) {
+            if (baseHeaders == null) {
+                if (headers.isEmpty()) {
+                    return false;
+                }
+                baseHeaders = new ArrayList<>(headers);
+                permutation = null;
+                return true;
+            }
+            if (plan != null) {
+                permutation = null;
+                return true;
+            }
+
+            if (baseFingerprint == null) {
+                baseFingerprint = HeaderFingerprint.of(baseHeaders);
+            }
+            HeaderFingerprint incoming = HeaderFingerprint.of(headers);
+            if (baseFingerprint.sameOrder(incoming)) {
+                permutation = null;
+                return true;
+            }
+            permutation = baseFingerprint.permutationFrom(incoming);
+            if (permutation == null) {
+                log.warn("변환 - 컬럼 구성이 달라 건너뜀: {}", current);
+                skipped.add(current + " (컬럼 불일치)");
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * 행 복사 (기준 순서로) 후 묶음이 차면 큐로
+         */
+        @Override
+        public void row(List<String> values) {
+            List<String> copy;
+            if (permutation == null) {
+                copy = new ArrayList<>(values);
+            } else {
+                copy = new ArrayList<>(Math.max(values.size(), permutation.length));
+                for (int source : permutation) {
+                    copy.add(source < values.size() ? values.get(source) : "");
+                }
+                for (int i = permutation.length; i < values.size(); i++) {
+                    copy.add(values.get(i));
+                }
+            }
+            batch.add(copy);
+            emitted++;
+            if (batch.size() >= batchRows) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!batch.isEmpty()) {
+                sendHeader();
+                send(new Rows(batch));
+                batch = new ArrayList<>(batchRows);
+            }
+        }
+
+        private void sendHeader() {
+            if (!headerSent && baseHeaders != null) {
+                send(new Header(baseHeaders));
+                headerSent = true;
+            }
+        }
+
+        /**
+         * 큐에 넣기 - 가득 차 있으면 쓰는 쪽이 꺼낼 때까지 기다림 (stallTimeout 넘으면 중단)
+         */
+        private void send(Message message) {
+            if (queue.offer(message)) {
+                return;
+            }
+            long waitStart = System.nanoTime();
+            try {
+                if (!queue.offer(message, stallTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new IllegalStateException("다운로드가 진행되지 않아 변환을 중단합니다.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("변환 중단");
+            } finally {
+                waitNanos += System.nanoTime() - waitStart;
+            }
+        }
+
+        /**
+         * 일반 모드 시트 - 첫 행은 헤더, 이후 빈 행은 제외 (일반 파싱과 같은 규칙)
+         */
+        private final class GenericSheet implements SheetRowHandler {
+
+            private boolean headerRead;
+
+            @Override
+            public boolean handleRow(int rowIdx, SheetRow row) {
+                listener.onRowsRead(1);
+                List<String> values = row.toList();
+                if (!headerRead) {
+                    headerRead = true;
+                    return headers(values);
+                }
+                if (values.stream().anyMatch(s -> s != null && !s.trim().isEmpty())) {
+                    row(values);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 시트 하나 읽기 (리더마다 다른 부분)
+     */
+    @FunctionalInterface
+    private interface SheetSource {
+        void read(SheetRowHandler handler) throws IOException;
+    }
+
+    /**
+     * 큐 메시지 - Header 한 번 (첫 Rows 앞), Rows 여러 번, 마지막에 End 또는 Failure
+     */
+    private sealed interface Message permits Header, Rows, End, Failure {
+    }
+
+    private record Header(List<String> headers) implements Message {
+    }
+
+    private record Rows(List<List<String>> rows) implements Message {
+    }
+
+    private record End(List<String> skipped, long waitNanos) implements Message {
+    }
+
+    private record Failure(Exception cause) implements Message {
+    }
+}
@@ -1,113 +1,348 @@
 package com.dodo.excelgenerator.excelgen.service;
 
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ExcelPatchDto;
+import com.dodo.excelgenerator.excelgen.dto.ExcelQueryDto;
 import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
+import com.dodo.excelgenerator.excelgen.metrics.ExcelMetrics;
+import com.dodo.excelgenerator.excelgen.progress.ProgressListener;
+import com.dodo.excelgenerator.excelgen.progress.ProgressOutputStream;
+import com.dodo.excelgenerator.excelgen.reader.CellValueConverter;
+import com.dodo.excelgenerator.excelgen.reader.CsvStreamingReader;
+import com.dodo.excelgenerator.excelgen.reader.SheetRow;
+import com.dodo.excelgenerator.excelgen.reader.SheetRowHandler;
+import com.dodo.excelgenerator.excelgen.reader.SheetSelection;
+import com.dodo.excelgenerator.excelgen.reader.StringInterner;
+import com.dodo.excelgenerator.excelgen.reader.XlsxStreamingReader;
+import com.dodo.excelgenerator.excelgen.reader.XlsxWorkbookSource;
+import com.dodo.excelgenerator.excelgen.table.ExcelTable;
+import com.dodo.excelgenerator.excelgen.table.HeaderFingerprint;
+import com.dodo.excelgenerator.excelgen.table.TableQuery;
+import com.dodo.excelgenerator.excelgen.writer.ColumnWidthStrategy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class ExcelService {
 
+    private final XlsxStreamingReader xlsxStreamingReader;
+    private final CsvStreamingReader csvStreamingReader;
+    private final ParallelSheetParser parallelSheetParser;
+    private final ParseResultCache parseResultCache;
+    private final ExcelProperties excelProperties;
+    private final ColumnWidthStrategy columnWidthStrategy;
+    private final ExcelMetrics excelMetrics;
+
     /**
      * 엑셀 파일 파싱
+     * - .csv/.tsv : 텍스트 스트리밍 (POI 를 거치지 않음)
+     * - .xlsx : SAX 스트리밍 (전체 워크북을 메모리에 올리지 않음)
+     * - .xls  : 기존 DOM 방식
      */
     public ExcelResponseDto parseExcel(MultipartFile file) throws IOException {
-        List<String> headers = new ArrayList<>();
-        List<List<String>> rows = new ArrayList<>();
+        return parseExcel(file, ProgressListener.NONE);
+    }
 
-        try (Workbook workbook = WorkbookFactory.create(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
-            boolean isFirstRow = true;
+    /**
+     * 엑셀 파일 파싱 (첫 번째 시트) - 읽은 행 수를 listener 에 알림
+     */
+    public ExcelResponseDto parseExcel(MultipartFile file, ProgressListener listener) throws IOException {
+        List<ExcelResponseDto> sheets = parseSheets(file, SheetSelection.first(), listener);
+        return sheets.isEmpty() ? ExcelResponseDto.of(ExcelTable.empty(), file.getOriginalFilename()) : sheets.get(0);
+    }
 
-            for (Row row : sheet) {
-                List<String> rowData = new ArrayList<>();
-                for (Cell cell : row) {
-                    rowData.add(getCellValueAsString(cell));
-                }
+    /**
+     * 엑셀 파일의 선택한 시트들을 파싱 - 시트마다 결과 하나 (통합 문서 순서)
+     * - .xlsx : 시트별 SAX 스트리밍을 병렬로 (ParallelSheetParser)
+     * - .xls  : DOM 방식으로 순서대로 (HSSF 워크북은 스레드 간 공유하지 않음)
+     * - .csv/.tsv : 시트가 없으므로 파일 전체가 결과 하나
+     * - 헤더 검증/병합은 호출하는 쪽에서 시트 단위로
+     * - 같은 내용의 파일을 다시 올리면 캐시된 결과의 복사본 (ParseResultCache)
+     */
+    public List<ExcelResponseDto> parseSheets(MultipartFile file, SheetSelection selection,
+                                              ProgressListener listener) throws IOException {
+        try (XlsxWorkbookSource source = openXlsx(file)) {
+            String contentHash = source != null ? source.getContentHash() : null;
+            return parseResultCache.get(file, contentHash, null, selection, listener,
+                    () -> readSheets(file, source, selection, listener));
+        }
+    }
 
-                if (isFirstRow) {
-                    headers = rowData;
-                    isFirstRow = false;
-                } else {
-                    // 빈 행이 아닌 경우만 추가
-                    if (rowData.stream().anyMatch(s -> s != null && !s.trim().isEmpty())) {
-                        rows.add(rowData);
-                    }
+    /**
+     * .xlsx 이면 임시 파일로 내려받으면서 내용 해시도 계산 (캐시 조회에 파일을 다시 읽지 않음), 아니면 null
+     */
+    private XlsxWorkbookSource openXlsx(MultipartFile file) throws IOException {
+        return !csvStreamingReader.supports(file) && xlsxStreamingReader.supports(file)
+                ? xlsxStreamingReader.open(file)
+                : null;
+    }
+
+    private List<ExcelResponseDto> readSheets(MultipartFile file, XlsxWorkbookSource source,
+                                              SheetSelection selection,
+                                              ProgressListener listener) throws IOException {
+        long start = System.nanoTime();
+        String fileName = file.getOriginalFilename();
+        List<ExcelResponseDto> results;
+
+        if (csvStreamingReader.supports(file)) {
+            RowCollector collector = new RowCollector(listener);
+            csvStreamingReader.read(file, collector);
+            results = List.of(collector.toResponse(fileName));
+        } else if (source != null) {
+            List<String> sheetNames = source.getSheetNames();
+            results = parallelSheetParser.parseAll(selection.select(sheetNames), index -> {
+                RowCollector collector = new RowCollector(listener);
+                source.readSheet(index, collector);
+                return collector.toResponse(selection.label(fileName, sheetNames.get(index)));
+            });
+        } else {
+            try (Workbook workbook = WorkbookFactory.create(file.getInputStream())) {
+                results = new ArrayList<>();
+                List<String> sheetNames = IntStream.range(0, workbook.getNumberOfSheets())
+                        .mapToObj(workbook::getSheetName)
+                        .toList();
+                for (int i : selection.select(sheetNames)) {
+                    Sheet sheet = workbook.getSheetAt(i);
+                    RowCollector collector = new RowCollector(listener);
+                    readSheet(sheet, collector);
+                    results.add(collector.toResponse(selection.label(fileName, sheet.getSheetName())));
                 }
             }
         }
 
-        return ExcelResponseDto.builder()
-                .headers(headers)
-                .rows(rows)
-                .totalRows(rows.size())
-                .fileName(file.getOriginalFilename())
-                .build();
+        excelMetrics.recordParse(ExcelMetrics.MODE_GENERIC, start, file.getSize(), results);
+        return results;
+    }
+
+    /**
+     * DOM 시트 읽기 (.xls)
+     */
+    private void readSheet(Sheet sheet, RowCollector collector) {
+        StringInterner interner = new StringInterner();
+        CellValueConverter converter = CellValueConverter.forWorkbook(sheet.getWorkbook());
+        for (Row row : sheet) {
+            List<String> rowData = new ArrayList<>();
+            for (Cell cell : row) {
+                rowData.add(interner.intern(converter.convert(cell)));
+            }
+            collector.add(rowData);
+        }
+        log.debug("문자열 중복 제거 - {}", interner);
     }
 
     /**
-     * 컬럼(헤더) 일치 여부 검증
+     * 컬럼(헤더) 일치 여부 검증 - 이름 구성이 같으면 순서가 달라도 일치 (병합 시 기준 순서로 맞춤)
      */
     public boolean validateHeaders(List<String> baseHeaders, List<String> newHeaders) {
         if (baseHeaders.size() != newHeaders.size()) {
             return false;
         }
-        for (int i = 0; i < baseHeaders.size(); i++) {
-            if (!baseHeaders.get(i).equals(newHeaders.get(i))) {
-                return false;
-            }
-        }
-        return true;
+        return HeaderFingerprint.of(baseHeaders).sameColumns(HeaderFingerprint.of(newHeaders));
     }
 
     /**
      * 기존 데이터에 새 데이터 병합 (헤더 제외, 데이터 행만 추가)
+     * - 컬럼 순서가 다르면 기존 데이터 순서로 맞춤
+     *
+     * @throws IllegalArgumentException 컬럼 구성이 다름
      */
     public ExcelResponseDto mergeData(ExcelResponseDto base, ExcelResponseDto newData) {
-        List<List<String>> mergedRows = new ArrayList<>(base.getRows());
-        mergedRows.addAll(newData.getRows());
+        MergeAccumulator merger = startMerge(base);
+        if (!merger.tryAppend(newData)) {
+            throw new IllegalArgumentException("컬럼 구성이 다릅니다: " + newData.getFileName());
+        }
+        return merger.build();
+    }
+
+    /**
+     * 다중 파일 병합 시작 - base 가 없거나 비어있으면 처음 추가되는 데이터가 기준이 됨
+     */
+    public MergeAccumulator startMerge(ExcelResponseDto base) {
+        return new MergeAccumulator(base, excelMetrics);
+    }
+
+    /**
+     * 부분 수정 내용을 테이블에 순서대로 반영 (제자리 수정) - 모두 반영하거나 하나도 반영하지 않음
+     * - 반영 전에 행/열 수만 따라가며 모든 수정을 검사하고, 잘못된 수정이 있으면 IllegalArgumentException
+     */
+    public void applyPatch(ExcelTable table, List<ExcelPatchDto.Operation> operations) {
+        validatePatch(table, operations);
 
-        return ExcelResponseDto.builder()
-                .headers(base.getHeaders())
-                .rows(mergedRows)
-                .totalRows(mergedRows.size())
-                .fileName(base.getFileName())
-                .build();
+        for (ExcelPatchDto.Operation op : operations) {
+            switch (op.getType()) {
+                case SET -> table.set(op.getRow(), op.getCol(), op.getValue());
+                case INSERT_ROW -> table.insertRow(op.getRow(), op.getValues() != null ? op.getValues() : List.of());
+                case DELETE_ROW -> table.deleteRow(op.getRow());
+                case ADD_COLUMN -> table.insertColumn(op.getCol(), op.getName());
+                case DELETE_COLUMN -> table.deleteColumn(op.getCol());
+                case MOVE_COLUMN -> table.moveColumn(op.getCol(), op.getTo());
+                case RENAME_COLUMN -> table.renameColumn(op.getCol(), op.getName());
+            }
+        }
+    }
+
+    /**
+     * 수정 목록 검사 - 테이블은 건드리지 않고 수정마다 바뀌는 행/열 수만 계산
+     * (ExcelTable 의 범위 검사와 같은 조건이므로 통과하면 반영 중에는 실패하지 않음)
+     */
+    private void validatePatch(ExcelTable table, List<ExcelPatchDto.Operation> operations) {
+        int rows = table.getRowCount();
+        int cols = table.getColumnCount();
+        for (int i = 0; i < operations.size(); i++) {
+            ExcelPatchDto.Operation op = operations.get(i);
+            if (op.getType() == null) {
+                throw new IllegalArgumentException((i + 1) + "번째 수정의 종류가 없습니다.");
+            }
+
+            switch (op.getType()) {
+                case SET -> {
+                    checkPatchRange(i, op, "행", op.getRow(), rows);
+                    checkPatchRange(i, op, "열", op.getCol(), cols);
+                }
+                case INSERT_ROW -> {
+                    checkPatchRange(i, op, "행", op.getRow(), rows + 1);
+                    rows++;
+                    if (op.getValues() != null) {
+                        cols = Math.max(cols, op.getValues().size());
+                    }
+                }
+                case DELETE_ROW -> {
+                    checkPatchRange(i, op, "행", op.getRow(), rows);
+                    rows--;
+                }
+                case ADD_COLUMN -> {
+                    checkPatchRange(i, op, "열", op.getCol(), cols + 1);
+                    cols++;
+                }
+                case DELETE_COLUMN -> {
+                    checkPatchRange(i, op, "열", op.getCol(), cols);
+                    cols--;
+                }
+                case MOVE_COLUMN -> {
+                    checkPatchRange(i, op, "열", op.getCol(), cols);
+                    checkPatchRange(i, op, "이동할 열", op.getTo(), cols);
+                }
+                case RENAME_COLUMN -> checkPatchRange(i, op, "열", op.getCol(), cols);
+            }
+        }
+    }
+
+    private void checkPatchRange(int i, ExcelPatchDto.Operation op, String name, int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException(String.format(
+                    "%d번째 수정(%s)의 %s 번호가 범위를 벗어났습니다. (%d, 범위 0 ~ %d) - 아무것도 반영하지 않았습니다.",
+                    i + 1, op.getType(), name, index, size - 1));
+        }
+    }
+
+    /**
+     * 테이블 정렬/필터/중복 제거 - 결과는 행 번호 (출력 순서)
+     * - 컬럼 색인은 테이블에 남겨 두고 재사용 (테이블이 바뀌면 다시 만듦)
+     * - 결과 테이블이 필요하면 table.select(rows) → createExcel/writeExcel 에 그대로 사용
+     * - 잘못된 열 번호/조건이면 IllegalArgumentException
+     */
+    public int[] query(ExcelTable table, ExcelQueryDto query) {
+        long start = System.nanoTime();
+        TableQuery tableQuery = TableQuery.on(table);
+
+        List<ExcelQueryDto.Filter> filters = query.getFilters() != null ? query.getFilters() : List.of();
+        for (int i = 0; i < filters.size(); i++) {
+            ExcelQueryDto.Filter filter = filters.get(i);
+            if (filter.getOp() == null) {
+                throw new IllegalArgumentException((i + 1) + "번째 필터의 조건이 없습니다.");
+            }
+            int col = checkQueryColumn(table, filter.getCol());
+            String value = filter.getValue() != null ? filter.getValue() : "";
+            switch (filter.getOp()) {
+                case EQ -> tableQuery.whereEquals(col, value);
+                case NE -> tableQuery.where(col, v -> !v.equals(value));
+                case CONTAINS -> {
+                    String needle = value.toLowerCase(Locale.ROOT);
+                    tableQuery.where(col, v -> v.toLowerCase(Locale.ROOT).contains(needle));
+                }
+                case GT -> tableQuery.where(col, TableQuery.compared(value, c -> c > 0));
+                case GE -> tableQuery.where(col, TableQuery.compared(value, c -> c >= 0));
+                case LT -> tableQuery.where(col, TableQuery.compared(value, c -> c < 0));
+                case LE -> tableQuery.where(col, TableQuery.compared(value, c -> c <= 0));
+                case EMPTY -> tableQuery.where(col, String::isBlank);
+                case NOT_EMPTY -> tableQuery.where(col, v -> !v.isBlank());
+            }
+        }
+
+        if (query.getDistinct() != null && !query.getDistinct().isEmpty()) {
+            tableQuery.distinct(query.getDistinct().stream()
+                    .mapToInt(col -> checkQueryColumn(table, col != null ? col : -1))
+                    .toArray());
+        }
+        if (query.getSort() != null) {
+            for (ExcelQueryDto.Sort sort : query.getSort()) {
+                tableQuery.orderBy(checkQueryColumn(table, sort.getCol()), sort.isDescending());
+            }
+        }
+
+        int[] rows = tableQuery.rows();
+        excelMetrics.recordQuery(start, rows.length);
+        return rows;
+    }
+
+    private int checkQueryColumn(ExcelTable table, int col) {
+        if (col < 0 || col >= table.getColumnCount()) {
+            throw new IllegalArgumentException("열 번호가 범위를 벗어났습니다: " + col);
+        }
+        return col;
     }
 
     /**
      * 데이터를 엑셀 파일로 생성
      */
     public byte[] createExcel(ExcelResponseDto data) throws IOException {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            writeExcel(data, out);
+            return out.toByteArray();
+        }
+    }
 
-            Sheet sheet = workbook.createSheet("Data");
+    /**
+     * 데이터를 엑셀로 생성해서 out 에 바로 기록 (중간 byte[] 버퍼 없음)
+     */
+    public void writeExcel(ExcelResponseDto data, OutputStream out) throws IOException {
+        writeExcel(data, out, ProgressListener.NONE);
+    }
 
-            // 헤더 스타일
-            CellStyle headerStyle = workbook.createCellStyle();
-            Font headerFont = workbook.createFont();
-            headerFont.setBold(true);
-            headerStyle.setFont(headerFont);
-            headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+    /**
+     * 데이터를 엑셀로 생성해서 out 에 기록 - 기록한 행 수, 내보낸 바이트 수를 listener 에 알림
+     */
+    public void writeExcel(ExcelResponseDto data, OutputStream out, ProgressListener listener) throws IOException {
+        long start = System.nanoTime();
+        Workbook workbook = createWorkbook(data.getTotalRows());
+        try {
+            Sheet sheet = workbook.createSheet("Data");
+            List<String> headers = data.getHeaders();
+            ColumnWidthStrategy.ColumnWidths columnWidths =
+                    columnWidthStrategy.begin(sheet, headers, data.getTotalRows());
 
             // 헤더 행 생성
-            Row headerRow = sheet.createRow(0);
-            List<String> headers = data.getHeaders();
-            for (int i = 0; i < headers.size(); i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers.get(i));
-                cell.setCellStyle(headerStyle);
-            }
+            writeHeaderRow(sheet, headers);
 
             // 데이터 행 생성
             List<List<String>> rows = data.getRows();
@@ -118,59 +353,305 @@ public class ExcelService {
                     Cell cell = row.createCell(j);
                     cell.setCellValue(rowData.get(j));
                 }
+                columnWidths.accept(rowData);
+                listener.onRowsWritten(1);
             }
 
-            // 컬럼 너비 자동 조정 + 최소 너비 설정 > 최소, 최대 넓이 확인하면서 조절
-            int minWidth = 15 * 256;
-            int maxWidth = 50 * 256;
+            excelMetrics.recordExportPhase(ExcelMetrics.PHASE_CREATE_WORKBOOK, start);
+
+            // 컬럼 너비 조정 (최소, 최대 넓이 안에서)
+            long phaseStart = System.nanoTime();
+            columnWidths.apply();
+            excelMetrics.recordExportPhase(ExcelMetrics.PHASE_COLUMN_WIDTH, phaseStart);
+
+            phaseStart = System.nanoTime();
+            ProgressOutputStream counted = new ProgressOutputStream(out, listener);
+            workbook.write(counted);
+            excelMetrics.recordExportPhase(ExcelMetrics.PHASE_SERIALIZE, phaseStart);
+
+            excelMetrics.recordExport(ExcelMetrics.FORMAT_XLSX, start, data.getTotalRows(), headers.size(), counted.getCount());
+        } finally {
+            closeWorkbook(workbook);
+        }
+    }
+
+    /**
+     * 헤더 행 (굵게, 회색 배경)
+     */
+    private void writeHeaderRow(Sheet sheet, List<String> headers) {
+        Workbook workbook = sheet.getWorkbook();
+        CellStyle headerStyle = workbook.createCellStyle();
+        Font headerFont = workbook.createFont();
+        headerFont.setBold(true);
+        headerStyle.setFont(headerFont);
+        headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+        headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
 
-            for (int i = 0; i < headers.size(); i++) {
-                sheet.autoSizeColumn(i);
-                int currentWidth = sheet.getColumnWidth(i);
+        Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < headers.size(); i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(headers.get(i));
+            cell.setCellStyle(headerStyle);
+        }
+    }
 
-                if (currentWidth < minWidth) {
-                    sheet.setColumnWidth(i, minWidth);
-                } else if (currentWidth > maxWidth) {
-                    sheet.setColumnWidth(i, maxWidth);
+    /**
+     * 데이터를 CSV/TSV 로 out 에 바로 기록 (UTF-8, 엑셀에서 한글이 깨지지 않도록 BOM 포함)
+     * - 구분자, 따옴표, 줄바꿈이 들어간 값만 따옴표로 감싸고 안의 따옴표는 "" 로
+     */
+    public void writeCsv(ExcelResponseDto data, OutputStream out, char delimiter,
+                         ProgressListener listener) throws IOException {
+        long start = System.nanoTime();
+        ExcelTable table = data.getTable();
+        int columnCount = table.getColumnCount();
+
+        ProgressOutputStream counted = new ProgressOutputStream(out, listener);
+        Writer writer = openCsvWriter(counted);
+        writeCsvRecord(writer, table.getHeaders(), delimiter);
+
+        int rowCount = table.getRowCount();
+        for (int i = 0; i < rowCount; i++) {
+            for (int j = 0; j < columnCount; j++) {
+                if (j > 0) {
+                    writer.write(delimiter);
                 }
+                writeCsvValue(writer, table.get(i, j), delimiter);
+            }
+            writer.write("\r\n");
+            listener.onRowsWritten(1);
+        }
+        writer.flush();
+
+        String format = delimiter == '\t' ? ExcelMetrics.FORMAT_TSV : ExcelMetrics.FORMAT_CSV;
+        excelMetrics.recordExport(format, start, rowCount, columnCount, counted.getCount());
+    }
+
+    /**
+     * UTF-8 + BOM 텍스트 출력
+     */
+    private Writer openCsvWriter(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write('\uFEFF');
+        return writer;
+    }
+
+    private void writeCsvRecord(Writer writer, List<String> values, char delimiter) throws IOException {
+        for (int j = 0; j < values.size(); j++) {
+            if (j > 0) {
+                writer.write(delimiter);
             }
+            writeCsvValue(writer, values.get(j), delimiter);
+        }
+        writer.write("\r\n");
+    }
 
-            workbook.write(out);
-            return out.toByteArray();
+    private void writeCsvValue(Writer writer, String value, char delimiter) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
         }
+        boolean quote = false;
+        for (int k = 0; k < value.length() && !quote; k++) {
+            char c = value.charAt(k);
+            quote = c == delimiter || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
     }
 
     /**
-     * 셀 값을 문자열로 변환
+     * 행 수에 따라 워크북 선택
+     * - 임계값 이하 : XSSFWorkbook (전체 메모리)
+     * - 임계값 초과 : SXSSFWorkbook (rowAccessWindow 만큼만 메모리에 두고 나머지는 임시 파일로 flush)
      */
-    private String getCellValueAsString(Cell cell) {
-        if (cell == null) {
-            return "";
+    private Workbook createWorkbook(int rowCount) {
+        ExcelProperties.Export export = excelProperties.getExport();
+        if (rowCount > export.getStreamingThreshold()) {
+            log.info("SXSSF 스트리밍 모드로 엑셀 생성 - 행 수: {}, 윈도우: {}", rowCount, export.getRowAccessWindow());
+            return createStreamingWorkbook();
         }
+        return new XSSFWorkbook();
+    }
 
-        return switch (cell.getCellType()) {
-            case STRING -> cell.getStringCellValue();
-            case NUMERIC -> {
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    yield cell.getLocalDateTimeCellValue().toString();
-                }
-                // 정수면 소수점 없이 출력
-                double value = cell.getNumericCellValue();
-                if (value == Math.floor(value)) {
-                    yield String.valueOf((long) value);
-                }
-                yield String.valueOf(value);
+    private SXSSFWorkbook createStreamingWorkbook() {
+        ExcelProperties.Export export = excelProperties.getExport();
+        return new SXSSFWorkbook(null, export.getRowAccessWindow(), export.isCompressTempFiles());
+    }
+
+    /**
+     * 워크북 닫기 (SXSSF 는 임시 파일까지 삭제)
+     */
+    private void closeWorkbook(Workbook workbook) throws IOException {
+        if (workbook instanceof SXSSFWorkbook streamingWorkbook) {
+            streamingWorkbook.dispose();
+        }
+        workbook.close();
+    }
+
+    /**
+     * 행 단위 내보내기 시작 (format: xlsx, csv, tsv) - 헤더 한 번, 이후 행을 받는 대로 바로 기록
+     * - 전체 행 수를 미리 모르므로 xlsx 는 항상 SXSSF (rowAccessWindow 행만 메모리에)
+     * - 컬럼 너비는 앞쪽 행 기준 (sampled 는 처음 sampleSize 개 행)
+     */
+    RowExport openExport(String format, OutputStream out, ProgressListener listener) throws IOException {
+        return switch (format) {
+            case "csv" -> new CsvExport(out, ',', listener);
+            case "tsv" -> new CsvExport(out, '\t', listener);
+            default -> new XlsxExport(out, listener);
+        };
+    }
+
+    /**
+     * 행 단위 내보내기 - headers → row ... → finish 순서로 호출하고 마지막에 close
+     */
+    interface RowExport extends Closeable {
+
+        void headers(List<String> headers) throws IOException;
+
+        void row(List<String> values) throws IOException;
+
+        /**
+         * 남은 내용을 out 에 모두 기록
+         */
+        void finish() throws IOException;
+    }
+
+    private class XlsxExport implements RowExport {
+
+        private final long start = System.nanoTime();
+        private final OutputStream out;
+        private final ProgressListener listener;
+        private final SXSSFWorkbook workbook;
+        private Sheet sheet;
+        private ColumnWidthStrategy.ColumnWidths columnWidths;
+        private int columnCount;
+        private int rowCount;
+
+        XlsxExport(OutputStream out, ProgressListener listener) {
+            this.out = out;
+            this.listener = listener;
+            this.workbook = createStreamingWorkbook();
+        }
+
+        @Override
+        public void headers(List<String> headers) {
+            sheet = workbook.createSheet("Data");
+            columnWidths = columnWidthStrategy.begin(sheet, headers, 0);
+            columnCount = headers.size();
+            writeHeaderRow(sheet, headers);
+        }
+
+        @Override
+        public void row(List<String> values) {
+            Row row = sheet.createRow(++rowCount);
+            for (int j = 0; j < values.size(); j++) {
+                row.createCell(j).setCellValue(values.get(j));
             }
-            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
-            case FORMULA -> {
-                try {
-                    yield String.valueOf(cell.getNumericCellValue());
-                } catch (Exception e) {
-                    yield cell.getStringCellValue();
+            columnWidths.accept(values);
+            listener.onRowsWritten(1);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            excelMetrics.recordExportPhase(ExcelMetrics.PHASE_CREATE_WORKBOOK, start);
+
+            long phaseStart = System.nanoTime();
+            columnWidths.apply();
+            excelMetrics.recordExportPhase(ExcelMetrics.PHASE_COLUMN_WIDTH, phaseStart);
+
+            phaseStart = System.nanoTime();
+            ProgressOutputStream counted = new ProgressOutputStream(out, listener);
+            workbook.write(counted);
+            excelMetrics.recordExportPhase(ExcelMetrics.PHASE_SERIALIZE, phaseStart);
+
+            excelMetrics.recordExport(ExcelMetrics.FORMAT_XLSX, start, rowCount, columnCount, counted.getCount());
+        }
+
+        @Override
+        public void close() throws IOException {
+            closeWorkbook(workbook);
+        }
+    }
+
+    private class CsvExport implements RowExport {
+
+        private final long start = System.nanoTime();
+        private final char delimiter;
+        private final ProgressListener listener;
+        private final ProgressOutputStream counted;
+        private final Writer writer;
+        private int columnCount;
+        private int rowCount;
+
+        CsvExport(OutputStream out, char delimiter, ProgressListener listener) throws IOException {
+            this.delimiter = delimiter;
+            this.listener = listener;
+            this.counted = new ProgressOutputStream(out, listener);
+            this.writer = openCsvWriter(counted);
+        }
+
+        @Override
+        public void headers(List<String> headers) throws IOException {
+            columnCount = headers.size();
+            writeCsvRecord(writer, headers, delimiter);
+        }
+
+        @Override
+        public void row(List<String> values) throws IOException {
+            writeCsvRecord(writer, values, delimiter);
+            rowCount++;
+            listener.onRowsWritten(1);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+            String format = delimiter == '\t' ? ExcelMetrics.FORMAT_TSV : ExcelMetrics.FORMAT_CSV;
+            excelMetrics.recordExport(format, start, rowCount, columnCount, counted.getCount());
+        }
+
+        @Override
+        public void close() {
+            // 응답 스트림은 호출하는 쪽에서 닫음
+        }
+    }
+
+    /**
+     * 행 수집기 - 첫 행은 헤더, 이후 빈 행을 제외한 데이터 행 (SAX / DOM 공통)
+     */
+    private static class RowCollector implements SheetRowHandler {
+
+        private final ProgressListener listener;
+        private ExcelTable table;
+
+        RowCollector(ProgressListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public boolean handleRow(int rowIdx, SheetRow row) {
+            add(row.toList());
+            return true;
+        }
+
+        void add(List<String> rowData) {
+            listener.onRowsRead(1);
+            if (table == null) {
+                table = new ExcelTable(rowData);
+            } else {
+                // 빈 행이 아닌 경우만 추가
+                if (rowData.stream().anyMatch(s -> s != null && !s.trim().isEmpty())) {
+                    table.appendRow(rowData);
                 }
             }
-            case BLANK -> "";
-            default -> "";
-        };
+        }
+
+        ExcelResponseDto toResponse(String fileName) {
+            return ExcelResponseDto.of(table != null ? table : ExcelTable.empty(), fileName);
+        }
     }
 }
\ No newline at end of file
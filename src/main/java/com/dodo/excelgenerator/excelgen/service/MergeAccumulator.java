@@ -0,0 +1,143 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
+import com.dodo.excelgenerator.excelgen.metrics.ExcelMetrics;
+import com.dodo.excelgenerator.excelgen.table.ExcelTable;
+import com.dodo.excelgenerator.excelgen.table.HeaderFingerprint;
+
+import java.util.List;
+
+/**
+ * 다중 파일 병합용 누적기
+ * - 기존 데이터(base)는 복사하지 않고 헤더만 기준으로 삼아, 새 파일 행만 하나의 테이블에 컬럼 단위로 이어 붙임
+ *   → 저장할 때 buildAppended() 를 저장소에 구간으로 추가하면 비용이 새 파일 크기만큼
+ * - tryAppend 는 컬럼 순서가 달라도 구성이 같으면 기준 헤더 순서로 맞춰서 붙임
+ *   (기준 헤더 지문은 한 번만, 새 파일 지문은 파일마다 한 번 계산)
+ * - 기존 데이터가 없으면 첫 데이터가 기준이 되고 build() 로 전체 결과를 한 번만 생성
+ */
+public class MergeAccumulator {
+
+    private final ExcelMetrics excelMetrics;
+    private final ExcelResponseDto base;       // 기존 데이터 (읽기만 함)
+    private ExcelTable table;                  // base 가 있으면 새로 추가할 행만, 없으면 전체
+    private String fileName;
+    private HeaderFingerprint fingerprint;     // 기준 헤더 지문 (처음 필요할 때 계산)
+
+    MergeAccumulator(ExcelResponseDto base, ExcelMetrics excelMetrics) {
+        this.excelMetrics = excelMetrics;
+        this.base = base != null && !base.getHeaders().isEmpty() ? base : null;
+        if (this.base != null) {
+            this.fileName = base.getFileName();
+        }
+    }
+
+    /**
+     * 아직 기준 데이터(헤더)가 없는지
+     */
+    public boolean isEmpty() {
+        return base == null && (table == null || table.getHeaders().isEmpty());
+    }
+
+    /**
+     * 기존 데이터 뒤에 붙이는 병합인지 (저장할 때 buildAppended 사용)
+     */
+    public boolean hasBase() {
+        return base != null;
+    }
+
+    /**
+     * 기준 헤더
+     */
+    public List<String> getHeaders() {
+        if (base != null) {
+            return base.getHeaders();
+        }
+        return table != null ? table.getHeaders() : List.of();
+    }
+
+    /**
+     * 지금까지 누적된 행 수 (기존 데이터 포함)
+     */
+    public int getTotalRows() {
+        return (base != null ? base.getTotalRows() : 0) + (table != null ? table.getRowCount() : 0);
+    }
+
+    /**
+     * 데이터 행 추가 - 비어있으면 첫 데이터가 기준(헤더, 파일명)이 됨
+     */
+    public void append(ExcelResponseDto data) {
+        long start = System.nanoTime();
+        if (isEmpty()) {
+            table = data.getTable();
+            fileName = data.getFileName();
+        } else {
+            appendTable().appendAll(data.getTable());
+        }
+        excelMetrics.recordMerge(start);
+    }
+
+    /**
+     * 기준 헤더와 컬럼 구성이 같으면 (순서 무관) 기준 순서로 맞춰서 추가
+     *
+     * @return 컬럼 구성이 달라서 추가하지 않았으면 false
+     */
+    public boolean tryAppend(ExcelResponseDto data) {
+        if (isEmpty()) {
+            append(data);
+            return true;
+        }
+        long start = System.nanoTime();
+        HeaderFingerprint baseFingerprint = baseFingerprint();
+        HeaderFingerprint incoming = HeaderFingerprint.of(data.getHeaders());
+        if (baseFingerprint.sameOrder(incoming)) {
+            appendTable().appendAll(data.getTable());
+        } else {
+            int[] permutation = baseFingerprint.permutationFrom(incoming);
+            if (permutation == null) {
+                return false;
+            }
+            appendTable().appendAll(data.getTable(), permutation);
+        }
+        excelMetrics.recordMerge(start);
+        return true;
+    }
+
+    private ExcelTable appendTable() {
+        if (table == null) {
+            table = new ExcelTable(getHeaders());
+        }
+        return table;
+    }
+
+    private HeaderFingerprint baseFingerprint() {
+        if (fingerprint == null) {
+            fingerprint = HeaderFingerprint.of(getHeaders());
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 새로 추가한 행만 (기준 헤더 순서) - 기존 데이터가 없으면 build() 와 같음
+     * - 헤더는 병합 기준으로 삼은 기존 데이터의 헤더 (저장소가 그 사이 바뀐 헤더와 비교해서 맞춤)
+     */
+    public ExcelResponseDto buildAppended() {
+        if (base == null) {
+            return build();
+        }
+        return ExcelResponseDto.of(table != null ? table : new ExcelTable(getHeaders()), fileName);
+    }
+
+    /**
+     * 최종 병합 결과 생성 - 기존 데이터가 있으면 복사본 뒤에 새 행을 구간으로 붙임
+     */
+    public ExcelResponseDto build() {
+        if (base == null) {
+            return ExcelResponseDto.of(table != null ? table : ExcelTable.empty(), fileName);
+        }
+        ExcelTable merged = base.getTable().copy();
+        if (table != null) {
+            merged.appendSegment(table);
+        }
+        return ExcelResponseDto.of(merged, fileName);
+    }
+}
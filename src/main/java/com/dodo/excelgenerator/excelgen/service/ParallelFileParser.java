@@ -0,0 +1,84 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 다중 파일 병렬 파싱 실행기
+ * - 최대 parallelism 개의 스레드에서 동시에 파싱
+ * - 결과는 제출 순서(업로드 순서) 그대로 돌려줌
+ */
+@Slf4j
+@Component
+public class ParallelFileParser implements DisposableBean {
+
+    private final ExecutorService executor;
+
+    public ParallelFileParser(ExcelProperties excelProperties) {
+        int parallelism = excelProperties.getUpload().getParallelism();
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("excel-parse-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+        log.info("파일 파싱 병렬도: {}", parallelism);
+    }
+
+    /**
+     * 파일들을 병렬로 파싱 시작 - 반환 리스트는 files 와 같은 순서
+     */
+    public <T> List<Future<T>> parseAll(List<MultipartFile> files, FileParser<T> parser) {
+        return files.stream()
+                .map(file -> executor.submit(() -> parser.parse(file)))
+                .toList();
+    }
+
+    /**
+     * 파싱 결과 대기 - 파싱 중 발생한 예외는 호출 스레드에서 그대로 다시 던짐
+     */
+    public static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("파싱 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 파일 하나를 파싱하는 함수 (ExcelService::parseExcel 등)
+     */
+    @FunctionalInterface
+    public interface FileParser<T> {
+        T parse(MultipartFile file) throws IOException;
+    }
+}
@@ -0,0 +1,74 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 한 파일 안의 시트 병렬 파싱 실행기
+ * - 파일 파싱 스레드(ParallelFileParser)에서 호출하므로 같은 풀을 쓰면 서로 기다리다 멈출 수 있어 풀을 따로 둠
+ * - 결과는 시트 순서 그대로 돌려줌
+ */
+@Slf4j
+@Component
+public class ParallelSheetParser implements DisposableBean {
+
+    private final ExecutorService executor;
+
+    public ParallelSheetParser(ExcelProperties excelProperties) {
+        int parallelism = excelProperties.getUpload().getSheetParallelism();
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("excel-sheet-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+        log.info("시트 파싱 병렬도: {}", parallelism);
+    }
+
+    /**
+     * 시트들을 병렬로 파싱하고 모두 끝날 때까지 대기 - 반환 리스트는 sheetIndexes 와 같은 순서
+     * - 시트가 하나면 호출 스레드에서 바로 파싱
+     */
+    public <T> List<T> parseAll(List<Integer> sheetIndexes, SheetParser<T> parser) throws IOException {
+        if (sheetIndexes.size() == 1) {
+            return List.of(parser.parse(sheetIndexes.get(0)));
+        }
+
+        List<Future<T>> futures = sheetIndexes.stream()
+                .map(index -> executor.submit(() -> parser.parse(index)))
+                .toList();
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(ParallelFileParser.await(future));
+            }
+        } catch (IOException | RuntimeException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        return results;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 시트 하나를 파싱하는 함수 (index 는 0부터)
+     */
+    @FunctionalInterface
+    public interface SheetParser<T> {
+        T parse(int sheetIndex) throws IOException;
+    }
+}
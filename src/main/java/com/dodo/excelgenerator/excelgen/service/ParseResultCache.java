@@ -0,0 +1,147 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
+import com.dodo.excelgenerator.excelgen.dto.TemplateConfigDto;
+import com.dodo.excelgenerator.excelgen.progress.ProgressListener;
+import com.dodo.excelgenerator.excelgen.reader.ContentHash;
+import com.dodo.excelgenerator.excelgen.reader.SheetSelection;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 업로드 파싱 결과 캐시 - 같은 파일을 다시 올리면 파싱을 건너뜀
+ * - 키: 파일 내용 SHA-256 + 파싱 방식(일반/템플릿 설정) + 시트 선택 (파일명은 키에 넣지 않음)
+ * - 테이블 크기(estimatedBytes) 합계로 제한하고 Caffeine(W-TinyLFU) 으로 내보냄
+ * - 결과 테이블은 세션에 저장된 뒤 제자리에서 수정되므로 캐시에는 복사본을 넣고 꺼낼 때도 복사본을 줌
+ */
+@Slf4j
+@Component
+public class ParseResultCache {
+
+    private final Cache<Key, Entry> cache;
+    private final boolean enabled;
+
+    public ParseResultCache(ExcelProperties excelProperties) {
+        long maxBytes = excelProperties.getUpload().getResultCacheSize().toBytes();
+        this.enabled = maxBytes > 0;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(Math.max(maxBytes, 0))
+                .weigher((Key key, Entry entry) -> (int) Math.min(entry.bytes(), Integer.MAX_VALUE))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 결과가 있으면 복사본, 없으면 파싱해서 캐시에 넣고 결과 반환
+     * - 캐시에서 꺼낸 경우에도 진행 상황은 읽은 행 수만큼 알림
+     *
+     * @param contentHash 임시 파일로 복사하면서 이미 계산한 내용 해시 (없으면 null)
+     * @param config      템플릿 파싱이면 설정, 일반 엑셀이면 null
+     */
+    List<ExcelResponseDto> get(MultipartFile file, String contentHash, TemplateConfigDto config,
+                               SheetSelection selection, ProgressListener listener, Parser parser) throws IOException {
+        if (!enabled) {
+            return parser.parse();
+        }
+        Key key = new Key(contentHash != null ? contentHash : contentHash(file), file.getSize(),
+                config != null ? TemplatePlan.Key.of(config) : null, selection.toString());
+
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            log.debug("파싱 결과 캐시 적중 - {} ({})", file.getOriginalFilename(), key.contentHash());
+            List<ExcelResponseDto> results = cached.copy(file.getOriginalFilename());
+            listener.onRowsRead(results.stream().mapToLong(ExcelResponseDto::getTotalRows).sum());
+            return results;
+        }
+
+        List<ExcelResponseDto> results = parser.parse();
+        cache.put(key, Entry.of(file.getOriginalFilename(), results));
+        return results;
+    }
+
+    /**
+     * 캐시 적중률 등 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 캐시된 결과 크기 합계 (bytes)
+     */
+    public long weightedSize() {
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    /**
+     * 업로드 내용 해시 - 복사하면서 이미 계산해 둔 파일(Hashed)은 그 값을, 아니면 스트림으로 한 번 읽어서 계산
+     * (임시 파일로 복사하지 않는 .csv/.tsv, .xls 만 따로 읽음)
+     */
+    static String contentHash(MultipartFile file) throws IOException {
+        if (file instanceof Hashed hashed && hashed.getContentHash() != null) {
+            return hashed.getContentHash();
+        }
+        return ContentHash.of(file.getInputStream());
+    }
+
+    /**
+     * 내용 해시를 이미 알고 있는 업로드 파일
+     */
+    public interface Hashed {
+        String getContentHash();
+    }
+
+    /**
+     * 파싱 함수 (캐시에 없을 때만 호출)
+     */
+    @FunctionalInterface
+    interface Parser {
+        List<ExcelResponseDto> parse() throws IOException;
+    }
+
+    private record Key(String contentHash, long size, TemplatePlan.Key template, String sheets) {
+    }
+
+    /**
+     * 캐시 값 - 시트별 결과 복사본과 처음 올린 파일명 (다른 이름으로 다시 올리면 결과 이름만 바꿈)
+     */
+    private record Entry(String fileName, List<ExcelResponseDto> sheets, long bytes) {
+
+        static Entry of(String fileName, List<ExcelResponseDto> results) {
+            List<ExcelResponseDto> copies = new ArrayList<>(results.size());
+            long bytes = 0;
+            for (ExcelResponseDto result : results) {
+                copies.add(ExcelResponseDto.of(result.getTable().copy(), result.getFileName()));
+                bytes += result.getTable().estimatedBytes();
+            }
+            return new Entry(fileName, List.copyOf(copies), bytes);
+        }
+
+        List<ExcelResponseDto> copy(String newFileName) {
+            List<ExcelResponseDto> copies = new ArrayList<>(sheets.size());
+            for (ExcelResponseDto sheet : sheets) {
+                copies.add(ExcelResponseDto.of(sheet.getTable().copy(), rename(sheet.getFileName(), newFileName)));
+            }
+            return copies;
+        }
+
+        /**
+         * 결과 이름은 파일명 또는 "파일명 [시트]" - 앞의 파일명만 바꿈
+         */
+        private String rename(String label, String newFileName) {
+            if (fileName == null || newFileName == null || label == null || !label.startsWith(fileName)) {
+                return label;
+            }
+            return newFileName + label.substring(fileName.length());
+        }
+    }
+}
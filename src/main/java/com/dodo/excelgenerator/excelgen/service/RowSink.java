@@ -0,0 +1,20 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import java.util.List;
+
+/**
+ * 시트 하나의 행을 테이블에 모으지 않고 바로 받는 곳 (변환 파이프라인)
+ * - headers 는 시트마다 행보다 먼저 한 번 호출
+ * - values 는 재사용 버퍼일 수 있으므로 보관하려면 복사해야 함
+ */
+interface RowSink {
+
+    /**
+     * 시트 헤더
+     *
+     * @return false 면 이 시트의 행은 받지 않음 (읽기 중단)
+     */
+    boolean headers(List<String> headers);
+
+    void row(List<String> values);
+}
@@ -0,0 +1,198 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.progress.ProgressListener;
+import com.dodo.excelgenerator.excelgen.reader.SheetRow;
+import com.dodo.excelgenerator.excelgen.reader.SheetRowHandler;
+import com.dodo.excelgenerator.excelgen.table.ExcelTable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 템플릿 스트리밍 추출기 - 시트를 한 번 읽으면서 피벗 셀과 왼쪽/오른쪽 테이블을 바로 뽑아냄
+ * - 추출 규칙은 TemplateParsingService 의 DOM 방식과 동일
+ *   (헤더 행 다음부터 읽고, 시트에 없는 행은 건너뛰고, 왼쪽 테이블이 빈 행에서 종료)
+ * - 피벗 셀(회사/코드)이 데이터보다 아래에 있으면 그 행을 읽을 때까지 데이터 행을 모아 둠
+ * - 데이터가 끝나고 피벗 셀까지 모두 읽었으면 나머지 시트는 읽지 않음
+ * - sink 를 주면 테이블에 모으지 않고 행을 바로 넘김 (변환 파이프라인)
+ */
+class TemplateExtractor implements SheetRowHandler {
+
+    private final TemplatePlan plan;
+    private final ProgressListener listener;
+    private final int[] dataColumns;
+
+    private String company = "";
+    private String code = "";
+    private boolean pivotResolved;
+    private boolean dataEnded;
+
+    private List<String> dataHeaders;
+    private ExcelTable table;
+
+    // null 이면 테이블에 모음
+    private final RowSink sink;
+    private boolean headersSent;
+    private boolean accepted = true;
+
+    // 피벗 셀을 읽기 전에 나온 데이터 행 (코드/회사 제외)
+    private final List<List<String>> pending = new ArrayList<>();
+
+    // 행마다 재사용하는 버퍼
+    private final List<String> rowBuffer;
+
+    TemplateExtractor(TemplatePlan plan, ProgressListener listener) {
+        this(plan, listener, null);
+    }
+
+    TemplateExtractor(TemplatePlan plan, ProgressListener listener, RowSink sink) {
+        this.plan = plan;
+        this.listener = listener;
+        this.sink = sink;
+        this.dataColumns = plan.getDataColumns();
+        this.rowBuffer = plan.newRowBuffer();
+    }
+
+    @Override
+    public boolean handleRow(int rowIdx, SheetRow row) {
+        listener.onRowsRead(1);
+
+        // 1. 피벗 셀
+        if (rowIdx == plan.getCompanyRow()) {
+            company = row.getValueAt(plan.getCompanyCol());
+        }
+        if (rowIdx == plan.getCodeRow()) {
+            code = row.getValueAt(plan.getCodeCol());
+        }
+
+        // 2. 헤더 행
+        if (rowIdx == plan.getDataStartRow()) {
+            dataHeaders = new ArrayList<>(dataColumns.length);
+            addDataValues(row, dataHeaders);
+        }
+
+        // 3. 데이터 행 (헤더 다음 행부터, 왼쪽 테이블이 비어있으면 종료)
+        if (rowIdx > plan.getDataStartRow() && !dataEnded) {
+            if (isLeftEmpty(row)) {
+                dataEnded = true;
+            } else if (pivotResolved) {
+                appendRow(row);
+            } else {
+                List<String> values = new ArrayList<>(dataColumns.length);
+                addDataValues(row, values);
+                pending.add(values);
+            }
+        }
+
+        if (!pivotResolved && rowIdx >= plan.getPivotEndRow()) {
+            resolvePivot();
+        }
+
+        return accepted && !(dataEnded && pivotResolved);
+    }
+
+    /**
+     * 시트를 다 읽은 뒤 결과 테이블
+     */
+    ExcelTable finish() {
+        if (!pivotResolved) {
+            resolvePivot();
+        }
+        return table();
+    }
+
+    /**
+     * 시트를 다 읽은 뒤 남은 행을 sink 로 넘김 (행이 없어도 헤더는 넘김)
+     */
+    void finishRows() {
+        if (!pivotResolved) {
+            resolvePivot();
+        }
+        sendHeaders();
+    }
+
+    String getCompany() {
+        return company;
+    }
+
+    String getCode() {
+        return code;
+    }
+
+    /**
+     * 피벗 셀 값 확정 - 모아 둔 행에 코드/회사를 붙여 테이블로 옮김
+     */
+    private void resolvePivot() {
+        pivotResolved = true;
+        for (List<String> values : pending) {
+            rowBuffer.clear();
+            rowBuffer.add(code);
+            rowBuffer.add(company);
+            rowBuffer.addAll(values);
+            emit();
+        }
+        pending.clear();
+    }
+
+    /**
+     * 한 행으로 합치기: 코드 + 회사 + 왼쪽 데이터 + 오른쪽 데이터
+     */
+    private void appendRow(SheetRow row) {
+        rowBuffer.clear();
+        rowBuffer.add(code);
+        rowBuffer.add(company);
+        addDataValues(row, rowBuffer);
+        emit();
+    }
+
+    private void emit() {
+        if (sink == null) {
+            table().appendRow(rowBuffer);
+            return;
+        }
+        sendHeaders();
+        if (accepted) {
+            sink.row(rowBuffer);
+        }
+    }
+
+    private void sendHeaders() {
+        if (!headersSent) {
+            headersSent = true;
+            accepted = sink.headers(headers());
+        }
+    }
+
+    private ExcelTable table() {
+        if (table == null) {
+            table = new ExcelTable(headers());
+        }
+        return table;
+    }
+
+    private List<String> headers() {
+        if (dataHeaders == null) {
+            // 헤더 행이 시트에 없으면 빈 헤더
+            dataHeaders = new ArrayList<>(dataColumns.length);
+            for (int i = 0; i < dataColumns.length; i++) {
+                dataHeaders.add("");
+            }
+        }
+        return plan.headers(dataHeaders);
+    }
+
+    private boolean isLeftEmpty(SheetRow row) {
+        for (int i = 0; i < plan.getColCount(); i++) {
+            if (!row.getValueAt(dataColumns[i]).trim().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addDataValues(SheetRow row, List<String> target) {
+        for (int col : dataColumns) {
+            target.add(row.getValueAt(col));
+        }
+    }
+}
@@ -2,6 +2,16 @@ package com.dodo.excelgenerator.excelgen.service;
 
 import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
 import com.dodo.excelgenerator.excelgen.dto.TemplateConfigDto;
+import com.dodo.excelgenerator.excelgen.metrics.ExcelMetrics;
+import com.dodo.excelgenerator.excelgen.progress.ProgressListener;
+import com.dodo.excelgenerator.excelgen.reader.CellValueConverter;
+import com.dodo.excelgenerator.excelgen.reader.CsvStreamingReader;
+import com.dodo.excelgenerator.excelgen.reader.SheetSelection;
+import com.dodo.excelgenerator.excelgen.reader.StringInterner;
+import com.dodo.excelgenerator.excelgen.reader.XlsxStreamingReader;
+import com.dodo.excelgenerator.excelgen.reader.XlsxWorkbookSource;
+import com.dodo.excelgenerator.excelgen.table.ExcelTable;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.springframework.stereotype.Service;
@@ -10,6 +20,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * 커스텀 템플릿 엑셀 파싱 서비스
@@ -18,88 +29,178 @@ import java.util.List;
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class TemplateParsingService {
 
+    private final XlsxStreamingReader xlsxStreamingReader;
+    private final CsvStreamingReader csvStreamingReader;
+    private final TemplatePlanCache templatePlanCache;
+    private final ParallelSheetParser parallelSheetParser;
+    private final ParseResultCache parseResultCache;
+    private final ExcelMetrics excelMetrics;
+
     /**
      * 템플릿 엑셀 파싱 (설정 기반)
+     * - .csv/.tsv : 텍스트 스트리밍 (추출 규칙은 xlsx 와 같음)
+     * - .xlsx : SAX 스트리밍으로 필요한 셀만 추출, 데이터가 끝나면 나머지 시트는 읽지 않음
+     * - .xls  : 기존 DOM 방식
+     * - 설정 해석 결과(TemplatePlan)는 캐시해서 파일/세션 간 재사용
      */
     public ExcelResponseDto parseTemplate(MultipartFile file, TemplateConfigDto config) throws IOException {
-        List<List<String>> allRows = new ArrayList<>();
-        List<String> headers = new ArrayList<>();
+        return parseTemplate(file, config, ProgressListener.NONE);
+    }
 
-        try (Workbook workbook = WorkbookFactory.create(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
+    /**
+     * 템플릿 엑셀 파싱 (첫 번째 시트) - 읽은 행 수를 listener 에 알림
+     */
+    public ExcelResponseDto parseTemplate(MultipartFile file, TemplateConfigDto config,
+                                          ProgressListener listener) throws IOException {
+        List<ExcelResponseDto> sheets = parseTemplateSheets(file, config, SheetSelection.first(), listener);
+        return sheets.isEmpty() ? ExcelResponseDto.of(ExcelTable.empty(), file.getOriginalFilename()) : sheets.get(0);
+    }
 
-            // 1. 피벗 테이블에서 회사/코드 추출
-            String company = getCellValue(sheet, config.getCompanyRow(), config.getCompanyCol());
-            String code = getCellValue(sheet, config.getCodeRow(), config.getCodeCol());
+    /**
+     * 선택한 시트마다 같은 템플릿 설정으로 추출 - 시트마다 결과 하나 (통합 문서 순서)
+     * - .xlsx 는 시트별로 병렬 추출, .xls 는 순서대로, .csv/.tsv 는 파일 전체가 결과 하나
+     * - 같은 내용의 파일을 같은 설정으로 다시 올리면 캐시된 결과의 복사본 (ParseResultCache)
+     */
+    public List<ExcelResponseDto> parseTemplateSheets(MultipartFile file, TemplateConfigDto config,
+                                                      SheetSelection selection,
+                                                      ProgressListener listener) throws IOException {
+        try (XlsxWorkbookSource source = openXlsx(file)) {
+            String contentHash = source != null ? source.getContentHash() : null;
+            return parseResultCache.get(file, contentHash, config, selection, listener,
+                    () -> extractSheets(file, source, config, selection, listener));
+        }
+    }
 
-            log.info("추출된 피벗 데이터 - 회사: {}, 코드: {}", company, code);
+    /**
+     * .xlsx 이면 임시 파일로 내려받으면서 내용 해시도 계산 (캐시 조회에 파일을 다시 읽지 않음), 아니면 null
+     */
+    private XlsxWorkbookSource openXlsx(MultipartFile file) throws IOException {
+        return !csvStreamingReader.supports(file) && xlsxStreamingReader.supports(file)
+                ? xlsxStreamingReader.open(file)
+                : null;
+    }
 
-            // 2. 헤더 구성: 코드, 회사, [왼쪽 테이블 헤더들], [오른쪽 테이블 헤더들]
-            headers.add("코드");
-            headers.add("회사");
+    private List<ExcelResponseDto> extractSheets(MultipartFile file, XlsxWorkbookSource source,
+                                                 TemplateConfigDto config, SheetSelection selection,
+                                                 ProgressListener listener) throws IOException {
+        long start = System.nanoTime();
+        TemplatePlan plan = templatePlanCache.get(config);
+        log.debug("템플릿 계획 캐시 - 적중률: {}", templatePlanCache.stats().hitRate());
+        String fileName = file.getOriginalFilename();
+        List<ExcelResponseDto> results;
+
+        if (csvStreamingReader.supports(file)) {
+            TemplateExtractor extractor = new TemplateExtractor(plan, listener);
+            csvStreamingReader.read(file, extractor);
+            results = List.of(toResponse(extractor, fileName));
+        } else if (source != null) {
+            List<String> sheetNames = source.getSheetNames();
+            results = parallelSheetParser.parseAll(selection.select(sheetNames), index -> {
+                TemplateExtractor extractor = new TemplateExtractor(plan, listener);
+                source.readSheet(index, extractor);
+                return toResponse(extractor, selection.label(fileName, sheetNames.get(index)));
+            });
+        } else {
+            try (Workbook workbook = WorkbookFactory.create(file.getInputStream())) {
+                results = new ArrayList<>();
+                List<String> sheetNames = IntStream.range(0, workbook.getNumberOfSheets())
+                        .mapToObj(workbook::getSheetName)
+                        .toList();
+                for (int i : selection.select(sheetNames)) {
+                    Sheet sheet = workbook.getSheetAt(i);
+                    ExcelTable table = extractSheet(sheet, plan, listener);
+                    results.add(ExcelResponseDto.of(table, selection.label(fileName, sheet.getSheetName())));
+                }
+            }
+        }
 
-            // 왼쪽 테이블 헤더 추출
-            List<String> leftHeaders = getRowData(sheet, config.getDataStartRow(), config.getLeftTableStartCol(), config.getColCount());
-            headers.addAll(leftHeaders);
+        excelMetrics.recordParse(ExcelMetrics.MODE_TEMPLATE, start, file.getSize(), results);
+        return results;
+    }
 
-            // 오른쪽 테이블 헤더 추출
-            List<String> rightHeaders = getRowData(sheet, config.getDataStartRow(), config.getRightTableStartCol(), config.getColCount());
-            headers.addAll(rightHeaders);
+    /**
+     * 스트리밍 추출 결과 (.csv/.tsv, .xlsx)
+     */
+    private ExcelResponseDto toResponse(TemplateExtractor extractor, String name) {
+        ExcelTable table = extractor.finish();
 
-            log.info("헤더 구성: {}", headers);
+        log.info("추출된 피벗 데이터 - 회사: {}, 코드: {}", extractor.getCompany(), extractor.getCode());
+        log.info("헤더 구성: {}", table.getHeaders());
+        log.info("총 파싱된 행 수: {}", table.getRowCount());
 
-            // 3. 데이터 행 파싱 (헤더 다음 행부터)
-            int dataRowStart = config.getDataStartRow() + 1;
-            int currentRow = dataRowStart;
+        return ExcelResponseDto.of(table, name);
+    }
 
-            while (currentRow <= sheet.getLastRowNum()) {
-                Row row = sheet.getRow(currentRow);
-                if (row == null) {
-                    currentRow++;
-                    continue;
-                }
+    /**
+     * 템플릿 추출 - DOM 방식 (.xls) 시트 하나
+     */
+    private ExcelTable extractSheet(Sheet sheet, TemplatePlan plan, ProgressListener listener) {
+        StringInterner interner = new StringInterner();
+        CellValueConverter converter = CellValueConverter.forWorkbook(sheet.getWorkbook());
 
-                // 왼쪽 테이블 데이터
-                List<String> leftData = getRowData(sheet, currentRow, config.getLeftTableStartCol(), config.getColCount());
+        // 1. 피벗 테이블에서 회사/코드 추출
+        String company = getCellValue(sheet, interner, converter, plan.getCompanyRow(), plan.getCompanyCol());
+        String code = getCellValue(sheet, interner, converter, plan.getCodeRow(), plan.getCodeCol());
 
-                // 왼쪽 테이블이 비어있으면 종료
-                if (isEmptyRow(leftData)) {
-                    break;
-                }
+        log.info("추출된 피벗 데이터 - 회사: {}, 코드: {}", company, code);
 
-                // 오른쪽 테이블 데이터
-                List<String> rightData = getRowData(sheet, currentRow, config.getRightTableStartCol(), config.getColCount());
+        // 2. 헤더 구성: 코드, 회사, [왼쪽 테이블 헤더들], [오른쪽 테이블 헤더들]
+        List<String> dataHeaders = getRowData(sheet, interner, converter, plan.getDataStartRow(), plan.getLeftTableStartCol(), plan.getColCount());
+        dataHeaders.addAll(getRowData(sheet, interner, converter, plan.getDataStartRow(), plan.getRightTableStartCol(), plan.getColCount()));
+        List<String> headers = plan.headers(dataHeaders);
 
-                // 한 행으로 합치기: 코드 + 회사 + 왼쪽 데이터 + 오른쪽 데이터
-                List<String> mergedRow = new ArrayList<>();
-                mergedRow.add(code);
-                mergedRow.add(company);
-                mergedRow.addAll(leftData);
-                mergedRow.addAll(rightData);
+        log.info("헤더 구성: {}", headers);
+        ExcelTable table = new ExcelTable(headers);
 
-                allRows.add(mergedRow);
-                log.debug("행 {}: {}", currentRow, mergedRow);
+        // 3. 데이터 행 파싱 (헤더 다음 행부터)
+        int dataRowStart = plan.getDataStartRow() + 1;
+        int currentRow = dataRowStart;
 
+        while (currentRow <= sheet.getLastRowNum()) {
+            Row row = sheet.getRow(currentRow);
+            listener.onRowsRead(1);
+            if (row == null) {
                 currentRow++;
+                continue;
+            }
+
+            // 왼쪽 테이블 데이터
+            List<String> leftData = getRowData(sheet, interner, converter, currentRow, plan.getLeftTableStartCol(), plan.getColCount());
+
+            // 왼쪽 테이블이 비어있으면 종료
+            if (isEmptyRow(leftData)) {
+                break;
             }
 
-            log.info("총 파싱된 행 수: {}", allRows.size());
+            // 오른쪽 테이블 데이터
+            List<String> rightData = getRowData(sheet, interner, converter, currentRow, plan.getRightTableStartCol(), plan.getColCount());
+
+            // 한 행으로 합치기: 코드 + 회사 + 왼쪽 데이터 + 오른쪽 데이터
+            List<String> mergedRow = plan.newRowBuffer();
+            mergedRow.add(code);
+            mergedRow.add(company);
+            mergedRow.addAll(leftData);
+            mergedRow.addAll(rightData);
+
+            table.appendRow(mergedRow);
+            log.debug("행 {}: {}", currentRow, mergedRow);
+
+            currentRow++;
         }
 
-        return ExcelResponseDto.builder()
-                .headers(headers)
-                .rows(allRows)
-                .totalRows(allRows.size())
-                .fileName(file.getOriginalFilename())
-                .build();
+        log.info("총 파싱된 행 수: {}", table.getRowCount());
+        log.debug("문자열 중복 제거 - {}", interner);
+
+        return table;
     }
 
     /**
      * 특정 행의 데이터를 지정된 열부터 colCount만큼 가져오기
      */
-    private List<String> getRowData(Sheet sheet, int rowIdx, int startCol, int colCount) {
+    private List<String> getRowData(Sheet sheet, StringInterner interner, CellValueConverter converter, int rowIdx, int startCol, int colCount) {
         List<String> data = new ArrayList<>();
         Row row = sheet.getRow(rowIdx);
 
@@ -113,7 +214,7 @@ public class TemplateParsingService {
 
         for (int i = 0; i < colCount; i++) {
             Cell cell = row.getCell(startCol + i);
-            data.add(getCellValueAsString(cell));
+            data.add(interner.intern(converter.convert(cell)));
         }
 
         return data;
@@ -129,42 +230,11 @@ public class TemplateParsingService {
     /**
      * 특정 셀 값 가져오기
      */
-    private String getCellValue(Sheet sheet, int rowIdx, int colIdx) {
+    private String getCellValue(Sheet sheet, StringInterner interner, CellValueConverter converter, int rowIdx, int colIdx) {
         Row row = sheet.getRow(rowIdx);
         if (row == null) return "";
 
         Cell cell = row.getCell(colIdx);
-        return getCellValueAsString(cell);
-    }
-
-    /**
-     * 셀 값을 문자열로 변환
-     */
-    private String getCellValueAsString(Cell cell) {
-        if (cell == null) return "";
-
-        return switch (cell.getCellType()) {
-            case STRING -> cell.getStringCellValue();
-            case NUMERIC -> {
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    yield cell.getLocalDateTimeCellValue().toString();
-                }
-                double value = cell.getNumericCellValue();
-                if (value == Math.floor(value)) {
-                    yield String.valueOf((long) value);
-                }
-                yield String.valueOf(value);
-            }
-            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
-            case FORMULA -> {
-                try {
-                    yield String.valueOf(cell.getNumericCellValue());
-                } catch (Exception e) {
-                    yield cell.getStringCellValue();
-                }
-            }
-            case BLANK -> "";
-            default -> "";
-        };
+        return interner.intern(converter.convert(cell));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.dto.TemplateConfigDto;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 템플릿 추출 계획 - TemplateConfigDto 를 한 번 해석해 둔 불변 객체
+ * - 피벗 좌표, 왼쪽/오른쪽 테이블 열 번호, 결과 행 너비를 미리 계산
+ * - 설정 값이 같으면 같은 계획 (TemplatePlanCache 에서 파일/세션 간 재사용)
+ */
+@Getter
+final class TemplatePlan {
+
+    static final List<String> FIXED_HEADERS = List.of("코드", "회사");
+
+    private final int companyRow;
+    private final int companyCol;
+    private final int codeRow;
+    private final int codeCol;
+    private final int dataStartRow;
+    private final int colCount;
+    private final int leftTableStartCol;
+    private final int rightTableStartCol;
+
+    private final int pivotEndRow;          // 피벗 셀 중 가장 아래 행
+    private final int rowWidth;             // 코드 + 회사 + 왼쪽 + 오른쪽
+    private final int[] dataColumns;        // 왼쪽, 오른쪽 테이블 열 번호 (결과 행 순서)
+
+    private TemplatePlan(Key key) {
+        this.companyRow = key.companyRow();
+        this.companyCol = key.companyCol();
+        this.codeRow = key.codeRow();
+        this.codeCol = key.codeCol();
+        this.dataStartRow = key.dataStartRow();
+        this.colCount = Math.max(key.colCount(), 0);
+        this.leftTableStartCol = key.leftTableStartCol();
+        this.rightTableStartCol = key.rightTableStartCol();
+
+        this.pivotEndRow = Math.max(companyRow, codeRow);
+        this.rowWidth = FIXED_HEADERS.size() + colCount * 2;
+        this.dataColumns = new int[colCount * 2];
+        for (int i = 0; i < colCount; i++) {
+            dataColumns[i] = leftTableStartCol + i;
+            dataColumns[colCount + i] = rightTableStartCol + i;
+        }
+    }
+
+    static TemplatePlan compile(Key key) {
+        return new TemplatePlan(key);
+    }
+
+    /**
+     * 결과 행 버퍼 (rowWidth 크기로 미리 할당)
+     */
+    List<String> newRowBuffer() {
+        return new ArrayList<>(rowWidth);
+    }
+
+    /**
+     * 헤더 구성: 코드, 회사, [왼쪽 테이블 헤더들], [오른쪽 테이블 헤더들]
+     *
+     * @param dataHeaders 헤더 행에서 읽은 dataColumns 순서의 값
+     */
+    List<String> headers(List<String> dataHeaders) {
+        List<String> headers = newRowBuffer();
+        headers.addAll(FIXED_HEADERS);
+        headers.addAll(dataHeaders);
+        return headers;
+    }
+
+    /**
+     * 캐시 키 - 설정 값의 불변 스냅샷 (TemplateConfigDto 는 가변이라 키로 쓰지 않음)
+     */
+    record Key(int companyRow, int companyCol, int codeRow, int codeCol,
+               int dataStartRow, int colCount, int leftTableStartCol, int rightTableStartCol) {
+
+        static Key of(TemplateConfigDto config) {
+            return new Key(config.getCompanyRow(), config.getCompanyCol(), config.getCodeRow(), config.getCodeCol(),
+                    config.getDataStartRow(), config.getColCount(),
+                    config.getLeftTableStartCol(), config.getRightTableStartCol());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.TemplateConfigDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Component;
+
+/**
+ * 템플릿 추출 계획 캐시
+ * - 같은 설정으로 여러 파일/세션을 처리할 때 설정 해석을 한 번만 함
+ */
+@Component
+public class TemplatePlanCache {
+
+    private final Cache<TemplatePlan.Key, TemplatePlan> cache;
+
+    public TemplatePlanCache(ExcelProperties excelProperties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(excelProperties.getTemplate().getPlanCacheSize())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 설정에 해당하는 계획 (없으면 만들어서 캐시)
+     */
+    TemplatePlan get(TemplateConfigDto config) {
+        return cache.get(TemplatePlan.Key.of(config), TemplatePlan::compile);
+    }
+
+    /**
+     * 캐시 적중률 등 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 캐시된 계획 수
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
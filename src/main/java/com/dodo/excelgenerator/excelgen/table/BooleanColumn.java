@@ -0,0 +1,103 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+/**
+ * 불리언 컬럼 - "true" / "false" 를 비트로 저장
+ */
+final class BooleanColumn extends PrimitiveColumn {
+
+    private final BitSet values;
+
+    BooleanColumn() {
+        this.values = new BitSet();
+    }
+
+    private BooleanColumn(BooleanColumn source) {
+        super(source);
+        this.values = (BitSet) source.values.clone();
+    }
+
+    static boolean accepts(String value) {
+        return "true".equals(value) || "false".equals(value);
+    }
+
+    boolean getBoolean(int row) {
+        return values.get(row);
+    }
+
+    @Override
+    ColumnType type() {
+        return ColumnType.BOOLEAN;
+    }
+
+    @Override
+    protected boolean canStore(String value) {
+        return accepts(value);
+    }
+
+    @Override
+    protected void store(int row, String value) {
+        values.set(row, "true".equals(value));
+    }
+
+    @Override
+    protected String format(int row) {
+        return values.get(row) ? "true" : "false";
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+    }
+
+    @Override
+    protected void shiftValues(int row, int delta) {
+        shiftBits(values, row, size, delta);
+    }
+
+    @Override
+    ColumnVector copy() {
+        return new BooleanColumn(this);
+    }
+
+    @Override
+    ColumnVector select(int[] rows) {
+        BooleanColumn column = new BooleanColumn();
+        selectBits(values, rows, column.values);
+        selectBits(blanks, rows, column.blanks);
+        column.size = rows.length;
+        return column;
+    }
+
+    @Override
+    ColumnVector appendFrom(ColumnVector source, int rows) {
+        if (source instanceof BooleanColumn booleans) {
+            copyBits(booleans.values, rows, values, size);
+            copyBits(booleans.blanks, rows, blanks, size);
+            size += rows;
+            return this;
+        }
+        return super.appendFrom(source, rows);
+    }
+
+    @Override
+    void writeTo(DataOutput out) throws IOException {
+        super.writeTo(out);
+        writeBits(out, values);
+    }
+
+    static BooleanColumn readFrom(ByteBuffer in) {
+        BooleanColumn column = new BooleanColumn();
+        column.readHeader(in);
+        column.values.or(readBits(in));
+        return column;
+    }
+
+    @Override
+    long estimatedBytes() {
+        return 64 + (values.size() + blanks.size()) / 8;
+    }
+}
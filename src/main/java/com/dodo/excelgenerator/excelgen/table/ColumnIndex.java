@@ -0,0 +1,225 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * 컬럼 하나의 색인 - 정렬/필터/중복 제거가 행 값을 다시 읽지 않도록 한 번 만들어 재사용
+ * - 서로 다른 값마다 정렬 순위(rank)를 매김 (순서: 숫자 크기순 → 문자 대소문자 무시 → 빈 값)
+ *   - ranks[행] = 그 행 값의 순위, sortedRows = 순위순 행 번호 (같은 값끼리는 행 순서)
+ *   - 같은 값의 행은 sortedRows 의 연속 구간이므로 값 → 순위 해시로 바로 찾음
+ * - 값 비교는 서로 다른 값끼리만 하고 행은 계수 정렬로 배치 (O(n + d log d), d = 서로 다른 값 수)
+ * - 테이블이 바뀌면 버림 (ExcelTable 이 버전마다 새 색인 맵을 씀)
+ */
+final class ColumnIndex {
+
+    private final Map<String, Integer> rankByValue;
+    private final String[] values;          // 순위별 값
+    private final int[] ranks;              // 행별 순위
+    private final int[] sortedRows;         // 순위순 행 번호
+    private final int[] starts;             // 순위별 sortedRows 시작 위치 (길이 d + 1)
+    private final int nonBlankCount;        // 빈 값을 뺀 순위 수 (빈 값은 항상 마지막 순위들)
+
+    private ColumnIndex(Map<String, Integer> rankByValue, String[] values,
+                        int[] ranks, int[] sortedRows, int[] starts, int nonBlankCount) {
+        this.rankByValue = rankByValue;
+        this.values = values;
+        this.ranks = ranks;
+        this.sortedRows = sortedRows;
+        this.starts = starts;
+        this.nonBlankCount = nonBlankCount;
+    }
+
+    static ColumnIndex build(ExcelTable table, int col) {
+        int rowCount = table.getRowCount();
+
+        // 1. 서로 다른 값에 번호 매기기
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> distinct = new ArrayList<>();
+        int[] valueIds = new int[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            String value = table.get(row, col);
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = distinct.size();
+                ids.put(value, id);
+                distinct.add(value);
+            }
+            valueIds[row] = id;
+        }
+
+        // 2. 서로 다른 값만 정렬해서 순위 결정
+        int d = distinct.size();
+        SortKey[] keys = new SortKey[d];
+        Integer[] order = new Integer[d];
+        int nonBlankCount = 0;
+        for (int i = 0; i < d; i++) {
+            keys[i] = SortKey.of(distinct.get(i));
+            order[i] = i;
+            if (keys[i].kind() != SortKey.BLANK) {
+                nonBlankCount++;
+            }
+        }
+        Arrays.sort(order, (a, b) -> keys[a].compareTo(keys[b]));
+
+        int[] rankOfId = new int[d];
+        String[] values = new String[d];
+        for (int rank = 0; rank < d; rank++) {
+            rankOfId[order[rank]] = rank;
+            values[rank] = distinct.get(order[rank]);
+        }
+        ids.replaceAll((value, id) -> rankOfId[id]);
+
+        // 3. 행을 순위별로 계수 정렬 (같은 순위는 행 순서 유지)
+        int[] ranks = new int[rowCount];
+        int[] starts = new int[d + 1];
+        for (int row = 0; row < rowCount; row++) {
+            ranks[row] = rankOfId[valueIds[row]];
+            starts[ranks[row] + 1]++;
+        }
+        for (int rank = 0; rank < d; rank++) {
+            starts[rank + 1] += starts[rank];
+        }
+        int[] next = Arrays.copyOf(starts, d);
+        int[] sortedRows = new int[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            sortedRows[next[ranks[row]]++] = row;
+        }
+
+        return new ColumnIndex(ids, values, ranks, sortedRows, starts, nonBlankCount);
+    }
+
+    int distinctCount() {
+        return values.length;
+    }
+
+    int rank(int row) {
+        return ranks[row];
+    }
+
+    /**
+     * 정렬 키 (0 ~ distinctCount - 1) - 내림차순이어도 빈 값은 마지막
+     */
+    int sortKey(int row, boolean descending) {
+        int rank = ranks[row];
+        if (!descending || rank >= nonBlankCount) {
+            return rank;
+        }
+        return nonBlankCount - 1 - rank;
+    }
+
+    /**
+     * 대략적인 힙 사용량 (bytes) - 값 문자열은 테이블과 공유하는 경우도 있지만 따로 셈
+     */
+    long estimatedBytes() {
+        long bytes = 64 + 16L * 4 + 4L * (ranks.length + sortedRows.length + starts.length) + 8L * values.length;
+        for (String value : values) {
+            bytes += ColumnVector.stringBytes(value);
+        }
+        // 해시 항목마다 노드 + 버킷 + Integer
+        return bytes + 48L * rankByValue.size();
+    }
+
+    /**
+     * 값 오름차순 행 번호 (복사본)
+     */
+    int[] sortedRows() {
+        return sortedRows.clone();
+    }
+
+    /**
+     * value 와 같은 값인 행 (해시 조회 + 연속 구간)
+     */
+    BitSet rowsEqualTo(String value) {
+        BitSet rows = new BitSet(ranks.length);
+        Integer rank = rankByValue.get(value != null ? value : "");
+        if (rank != null) {
+            for (int i = starts[rank]; i < starts[rank + 1]; i++) {
+                rows.set(sortedRows[i]);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 조건을 만족하는 행 - 조건은 서로 다른 값마다 한 번만 평가
+     */
+    BitSet rowsMatching(Predicate<String> predicate) {
+        boolean[] matched = new boolean[values.length];
+        boolean any = false;
+        for (int rank = 0; rank < values.length; rank++) {
+            matched[rank] = predicate.test(values[rank]);
+            any |= matched[rank];
+        }
+        BitSet rows = new BitSet(ranks.length);
+        if (any) {
+            for (int row = 0; row < ranks.length; row++) {
+                if (matched[ranks[row]]) {
+                    rows.set(row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * operand 와 비교한 결과(compareTo 부호)로 판단하는 조건 - 종류(숫자/문자)가 다르거나 빈 값이면 false
+     * - 숫자는 크기, 문자는 대소문자 무시 비교 ("1" 과 "1.0", "a" 와 "A" 는 같음)
+     */
+    static Predicate<String> compared(String operand, IntPredicate test) {
+        SortKey target = SortKey.of(operand);
+        return value -> {
+            SortKey key = SortKey.of(value);
+            return key.kind() != SortKey.BLANK && key.kind() == target.kind() && test.test(key.compareLoosely(target));
+        };
+    }
+
+    /**
+     * 정렬용 값 - 종류, 숫자 값(숫자일 때), 원래 문자열
+     */
+    private record SortKey(int kind, double number, String text) implements Comparable<SortKey> {
+
+        static final int NUMBER = 0;
+        static final int TEXT = 1;
+        static final int BLANK = 2;
+
+        static SortKey of(String value) {
+            String v = value != null ? value : "";
+            if (v.isBlank()) {
+                return new SortKey(BLANK, 0, v);
+            }
+            if (LongColumn.accepts(v) || DoubleColumn.accepts(v)) {
+                try {
+                    return new SortKey(NUMBER, Double.parseDouble(v), v);
+                } catch (NumberFormatException e) {
+                    // "1-2" 처럼 숫자 문자만으로 된 문자열
+                }
+            }
+            return new SortKey(TEXT, 0, v);
+        }
+
+        int compareLoosely(SortKey other) {
+            if (kind != other.kind) {
+                return Integer.compare(kind, other.kind);
+            }
+            return kind == NUMBER
+                    ? Double.compare(number, other.number)
+                    : String.CASE_INSENSITIVE_ORDER.compare(text, other.text);
+        }
+
+        /**
+         * 느슨하게 같아도 문자열이 다르면 순서를 정해 둠 (서로 다른 값은 서로 다른 순위)
+         */
+        @Override
+        public int compareTo(SortKey other) {
+            int c = compareLoosely(other);
+            return c != 0 ? c : text.compareTo(other.text);
+        }
+    }
+}
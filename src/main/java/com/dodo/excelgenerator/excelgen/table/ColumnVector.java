@@ -0,0 +1,137 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 컬럼 하나의 값 저장소
+ * - 숫자/불리언은 원시 배열, 문자열은 사전 인코딩 또는 일반 배열
+ * - 담을 수 없는 값이 들어오면 tryXxx 가 false 를 반환하고, 호출 측이 promote() 로 더 일반적인 타입으로 바꿈
+ *   (정수 → 실수, 숫자/불리언 → 사전 인코딩 문자열 → 일반 문자열)
+ * - get() 은 항상 저장할 때 받은 문자열과 동일한 문자열을 돌려줌
+ */
+abstract class ColumnVector {
+
+    /**
+     * 새 빈 컬럼 - 숫자 컬럼으로 시작하고 첫 값에 따라 타입이 정해짐
+     */
+    static ColumnVector empty() {
+        return new LongColumn();
+    }
+
+    /**
+     * value 를 담을 수 있는 가장 작은 타입의 빈 컬럼
+     */
+    static ColumnVector forValue(String value) {
+        if (LongColumn.accepts(value)) {
+            return new LongColumn();
+        }
+        if (DoubleColumn.accepts(value)) {
+            return new DoubleColumn();
+        }
+        if (BooleanColumn.accepts(value)) {
+            return new BooleanColumn();
+        }
+        return new DictionaryColumn();
+    }
+
+    abstract ColumnType type();
+
+    abstract int size();
+
+    abstract String get(int row);
+
+    abstract boolean tryAppend(String value);
+
+    abstract boolean trySet(int row, String value);
+
+    abstract boolean tryInsert(int row, String value);
+
+    abstract void remove(int row);
+
+    /**
+     * value 를 담을 수 있는 더 일반적인 타입으로 변환한 복사본
+     */
+    abstract ColumnVector promote(String value);
+
+    abstract ColumnVector copy();
+
+    /**
+     * rows 행만 순서대로 담은 같은 타입의 새 컬럼 (정렬/필터 결과 적용용 - 값을 문자열로 바꾸지 않음)
+     */
+    abstract ColumnVector select(int[] rows);
+
+    /**
+     * source 의 앞 rows 행을 뒤에 추가 (병합/구간 합치기용)
+     * - 같은 타입끼리는 하위 클래스가 배열을 통째로 복사하고, 여기서는 값마다 문자열로 옮김
+     * - 담을 수 없는 값이 있으면 승격한 컬럼을 돌려주므로 호출 측은 반환값으로 교체
+     */
+    ColumnVector appendFrom(ColumnVector source, int rows) {
+        if (size() == 0 && source.size() == rows) {
+            return source.copy();
+        }
+        ColumnVector column = this;
+        for (int row = 0; row < rows; row++) {
+            String value = source.get(row);
+            while (!column.tryAppend(value)) {
+                column = column.promote(value);
+            }
+        }
+        return column;
+    }
+
+    /**
+     * 대략적인 힙 사용량 (bytes)
+     */
+    abstract long estimatedBytes();
+
+    /**
+     * 이진 형식으로 기록 (타입 바이트는 TableCodec 이 먼저 기록)
+     */
+    abstract void writeTo(DataOutput out) throws IOException;
+
+    /**
+     * writeTo 로 기록한 컬럼 읽기
+     */
+    static ColumnVector readFrom(ColumnType type, ByteBuffer in) {
+        return switch (type) {
+            case LONG -> LongColumn.readFrom(in);
+            case DOUBLE -> DoubleColumn.readFrom(in);
+            case BOOLEAN -> BooleanColumn.readFrom(in);
+            case DICTIONARY -> DictionaryColumn.readFrom(in);
+            case STRING -> StringColumn.readFrom(in);
+        };
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 문자열 하나의 대략적인 힙 사용량 (compact string 기준)
+     */
+    static long stringBytes(String value) {
+        if (value == null) {
+            return 0;
+        }
+        boolean latin1 = true;
+        for (int i = 0; i < value.length() && latin1; i++) {
+            latin1 = value.charAt(i) < 256;
+        }
+        return 40 + (long) value.length() * (latin1 ? 1 : 2);
+    }
+
+    enum ColumnType {
+        LONG, DOUBLE, BOOLEAN, DICTIONARY, STRING
+    }
+}
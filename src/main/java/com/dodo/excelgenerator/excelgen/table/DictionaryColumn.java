@@ -0,0 +1,215 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사전 인코딩 문자열 컬럼 - 회사, 코드, 부서처럼 종류가 적은 값용
+ * - 서로 다른 값은 dictionary 에 한 번만 저장하고 행에는 int 코드만 저장
+ * - 서로 다른 값이 MAX_DICTIONARY_SIZE 를 넘으면 일반 문자열 컬럼으로 바뀜
+ */
+final class DictionaryColumn extends ColumnVector {
+
+    static final int MAX_DICTIONARY_SIZE = 4096;
+
+    private int[] codes = new int[0];
+    private int size;
+    private final List<String> dictionary;
+    private final Map<String, Integer> lookup;
+
+    DictionaryColumn() {
+        this.dictionary = new ArrayList<>();
+        this.lookup = new HashMap<>();
+    }
+
+    private DictionaryColumn(DictionaryColumn source) {
+        this.codes = Arrays.copyOf(source.codes, source.size);
+        this.size = source.size;
+        this.dictionary = new ArrayList<>(source.dictionary);
+        this.lookup = new HashMap<>(source.lookup);
+    }
+
+    int getCode(int row) {
+        return codes[row];
+    }
+
+    List<String> getDictionary() {
+        return dictionary;
+    }
+
+    @Override
+    ColumnType type() {
+        return ColumnType.DICTIONARY;
+    }
+
+    @Override
+    int size() {
+        return size;
+    }
+
+    @Override
+    String get(int row) {
+        return dictionary.get(codes[row]);
+    }
+
+    @Override
+    boolean tryAppend(String value) {
+        int code = codeOf(value);
+        if (code < 0) {
+            return false;
+        }
+        ensureCapacity(size + 1);
+        codes[size++] = code;
+        return true;
+    }
+
+    @Override
+    boolean trySet(int row, String value) {
+        int code = codeOf(value);
+        if (code < 0) {
+            return false;
+        }
+        codes[row] = code;
+        return true;
+    }
+
+    @Override
+    boolean tryInsert(int row, String value) {
+        int code = codeOf(value);
+        if (code < 0) {
+            return false;
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(codes, row, codes, row + 1, size - row);
+        codes[row] = code;
+        size++;
+        return true;
+    }
+
+    @Override
+    void remove(int row) {
+        System.arraycopy(codes, row + 1, codes, row, size - row - 1);
+        size--;
+    }
+
+    @Override
+    ColumnVector promote(String value) {
+        return StringColumn.copyOf(this);
+    }
+
+    @Override
+    ColumnVector copy() {
+        return new DictionaryColumn(this);
+    }
+
+    /**
+     * 코드만 골라 담고 사전은 그대로 복사 (고른 행에 없는 값도 사전에 남음)
+     */
+    @Override
+    ColumnVector select(int[] rows) {
+        DictionaryColumn column = new DictionaryColumn();
+        column.dictionary.addAll(dictionary);
+        column.lookup.putAll(lookup);
+        column.codes = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            column.codes[i] = codes[rows[i]];
+        }
+        column.size = rows.length;
+        return column;
+    }
+
+    /**
+     * 사전끼리는 코드만 바꿔서 복사 (원본 사전 값마다 한 번만 조회)
+     * - 사전이 가득 차면 여기까지 추가한 행은 두고 일반 문자열 컬럼으로 바꿔서 나머지를 추가
+     */
+    @Override
+    ColumnVector appendFrom(ColumnVector source, int rows) {
+        if (!(source instanceof DictionaryColumn other) || size == 0) {
+            return super.appendFrom(source, rows);
+        }
+        int[] remap = new int[other.dictionary.size()];
+        Arrays.fill(remap, -1);
+        ensureCapacity(size + rows);
+        for (int i = 0; i < rows; i++) {
+            int sourceCode = other.codes[i];
+            int code = remap[sourceCode];
+            if (code < 0) {
+                code = codeOf(other.dictionary.get(sourceCode));
+                if (code < 0) {
+                    StringColumn promoted = StringColumn.copyOf(this);
+                    for (int row = i; row < rows; row++) {
+                        promoted.tryAppend(other.get(row));
+                    }
+                    return promoted;
+                }
+                remap[sourceCode] = code;
+            }
+            codes[size++] = code;
+        }
+        return this;
+    }
+
+    @Override
+    long estimatedBytes() {
+        long bytes = 96 + 4L * codes.length;
+        for (String value : dictionary) {
+            bytes += stringBytes(value) + 48;   // 문자열 + lookup 엔트리
+        }
+        return bytes;
+    }
+
+    @Override
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(dictionary.size());
+        for (String value : dictionary) {
+            writeString(out, value);
+        }
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeInt(codes[i]);
+        }
+    }
+
+    static DictionaryColumn readFrom(ByteBuffer in) {
+        DictionaryColumn column = new DictionaryColumn();
+        int dictionarySize = in.getInt();
+        for (int i = 0; i < dictionarySize; i++) {
+            String value = readString(in);
+            column.dictionary.add(value);
+            column.lookup.put(value, i);
+        }
+        column.size = in.getInt();
+        column.codes = new int[column.size];
+        in.asIntBuffer().get(column.codes);
+        in.position(in.position() + column.size * Integer.BYTES);
+        return column;
+    }
+
+    /**
+     * 사전 코드 조회 (없으면 추가, 사전이 가득 차면 -1)
+     */
+    private int codeOf(String value) {
+        Integer code = lookup.get(value);
+        if (code != null) {
+            return code;
+        }
+        if (dictionary.size() >= MAX_DICTIONARY_SIZE) {
+            return -1;
+        }
+        dictionary.add(value);
+        lookup.put(value, dictionary.size() - 1);
+        return dictionary.size() - 1;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > codes.length) {
+            codes = Arrays.copyOf(codes, PrimitiveColumn.grow(codes.length, capacity));
+        }
+    }
+}
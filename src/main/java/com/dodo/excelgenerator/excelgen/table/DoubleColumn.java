@@ -0,0 +1,215 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 실수 컬럼 - double[] 저장 (Double.toString 으로 되돌렸을 때 같은 문자열인 값만)
+ * - 금액/단가처럼 정수와 실수가 섞인 컬럼도 담음: 정수("100")로 받은 행은 integral 비트로 표시하고 정수 모양 그대로 출력
+ *   (double 로 정확히 표현되는 ±2^53 이내 정수만)
+ */
+final class DoubleColumn extends PrimitiveColumn {
+
+    private static final long MAX_EXACT_LONG = 1L << 53;
+
+    private double[] values = new double[0];
+    private final BitSet integral;
+
+    DoubleColumn() {
+        this.integral = new BitSet();
+    }
+
+    private DoubleColumn(DoubleColumn source) {
+        super(source);
+        this.values = Arrays.copyOf(source.values, source.size);
+        this.integral = (BitSet) source.integral.clone();
+    }
+
+    /**
+     * 정수 컬럼을 실수 컬럼으로 변환 (문자열을 거치지 않음)
+     *
+     * @return double 로 정확히 표현할 수 없는 정수가 있으면 null
+     */
+    static DoubleColumn copyOf(LongColumn source) {
+        if (!exact(source, source.size())) {
+            return null;
+        }
+        DoubleColumn column = new DoubleColumn();
+        column.appendLongs(source, source.size());
+        return column;
+    }
+
+    /**
+     * Double.toString 으로 되돌렸을 때 같은 문자열이 되는 실수인지 ("1.5", "3.0", "1.0E10")
+     */
+    static boolean accepts(String value) {
+        int len = value.length();
+        if (len == 0 || len > 32) {
+            return false;
+        }
+        boolean hasDot = false;
+        for (int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                hasDot = true;
+            } else if ((c < '0' || c > '9') && c != '-' && c != 'E') {
+                return false;
+            }
+        }
+        if (!hasDot) {
+            return false;
+        }
+        try {
+            return Double.toString(Double.parseDouble(value)).equals(value);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    double getDouble(int row) {
+        return values[row];
+    }
+
+    boolean isIntegral(int row) {
+        return integral.get(row);
+    }
+
+    @Override
+    ColumnType type() {
+        return ColumnType.DOUBLE;
+    }
+
+    @Override
+    protected boolean canStore(String value) {
+        return accepts(value) || exactLong(value);
+    }
+
+    @Override
+    protected void store(int row, String value) {
+        if (LongColumn.accepts(value)) {
+            values[row] = Long.parseLong(value);
+            integral.set(row);
+        } else {
+            values[row] = Double.parseDouble(value);
+            integral.clear(row);
+        }
+    }
+
+    @Override
+    protected String format(int row) {
+        return integral.get(row) ? Long.toString((long) values[row]) : Double.toString(values[row]);
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, grow(values.length, capacity));
+        }
+    }
+
+    @Override
+    protected void shiftValues(int row, int delta) {
+        if (delta > 0) {
+            System.arraycopy(values, row, values, row + 1, size - row);
+        } else {
+            System.arraycopy(values, row + 1, values, row, size - row - 1);
+        }
+        shiftBits(integral, row, size, delta);
+    }
+
+    @Override
+    ColumnVector copy() {
+        return new DoubleColumn(this);
+    }
+
+    @Override
+    ColumnVector select(int[] rows) {
+        DoubleColumn column = new DoubleColumn();
+        column.values = new double[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            column.values[i] = values[rows[i]];
+        }
+        selectBits(blanks, rows, column.blanks);
+        selectBits(integral, rows, column.integral);
+        column.size = rows.length;
+        return column;
+    }
+
+    @Override
+    ColumnVector appendFrom(ColumnVector source, int rows) {
+        if (source instanceof DoubleColumn doubles) {
+            ensureCapacity(size + rows);
+            System.arraycopy(doubles.values, 0, values, size, rows);
+            copyBits(doubles.blanks, rows, blanks, size);
+            copyBits(doubles.integral, rows, integral, size);
+            size += rows;
+            return this;
+        }
+        if (source instanceof LongColumn longs && exact(longs, rows)) {
+            appendLongs(longs, rows);
+            return this;
+        }
+        return super.appendFrom(source, rows);
+    }
+
+    @Override
+    void writeTo(DataOutput out) throws IOException {
+        super.writeTo(out);
+        for (int i = 0; i < size; i++) {
+            out.writeDouble(values[i]);
+        }
+        writeBits(out, integral);
+    }
+
+    static DoubleColumn readFrom(ByteBuffer in) {
+        DoubleColumn column = new DoubleColumn();
+        column.readHeader(in);
+        column.values = new double[column.size];
+        in.asDoubleBuffer().get(column.values);
+        in.position(in.position() + column.size * Double.BYTES);
+        column.integral.or(readBits(in));
+        return column;
+    }
+
+    @Override
+    long estimatedBytes() {
+        return 64 + 8L * values.length + (blanks.size() + integral.size()) / 8;
+    }
+
+    /**
+     * 정수 source 의 앞 rows 행을 정수 표시로 추가 (exact 확인 후)
+     */
+    private void appendLongs(LongColumn source, int rows) {
+        ensureCapacity(size + rows);
+        for (int i = 0; i < rows; i++) {
+            values[size + i] = source.getLong(i);
+        }
+        copyBits(source.blanks, rows, blanks, size);
+        integral.set(size, size + rows);
+        size += rows;
+    }
+
+    /**
+     * 앞 rows 행의 정수가 모두 double 로 정확히 표현되는지
+     */
+    private static boolean exact(LongColumn source, int rows) {
+        for (int i = 0; i < rows; i++) {
+            long value = source.getLong(i);
+            if ((value > MAX_EXACT_LONG || value < -MAX_EXACT_LONG) && !source.blanks.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean exactLong(String value) {
+        if (!LongColumn.accepts(value)) {
+            return false;
+        }
+        long parsed = Long.parseLong(value);
+        return parsed <= MAX_EXACT_LONG && parsed >= -MAX_EXACT_LONG;
+    }
+}
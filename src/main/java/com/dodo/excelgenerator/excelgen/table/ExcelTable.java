@@ -0,0 +1,729 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 컬럼 기반 테이블 - 헤더 + 컬럼별 값 저장소
+ * - 숫자/불리언 컬럼은 원시 배열, 종류가 적은 문자열은 사전 인코딩으로 저장해서
+ *   셀마다 String 객체 + 행마다 ArrayList 를 두던 List&lt;List&lt;String&gt;&gt; 보다 메모리를 적게 씀
+ * - 파싱, 병합, 엑셀 생성, 화면 출력 모두 이 API 를 통해 접근
+ * - 행 길이가 다르면 가장 긴 행에 맞춰 빈 문자열로 채움
+ * - 셀/행/열 수정은 제자리에서 반영 (화면 수정 내용을 전체 재생성 없이 적용)
+ * - 다른 스레드가 읽을 때는 snapshot() - 컬럼을 공유하고, 공유 중인 컬럼은 고치기 전에 복사 (copy-on-write)
+ *   - 테이블 자체(수정, 합치기, snapshot/release 호출)는 한 스레드 또는 같은 잠금 안에서만 사용
+ *   - 다 읽은 스냅샷은 release() - 공유 표시를 풀어서 다음 수정이 컬럼 전체를 복사하지 않도록
+ * - appendSegment 로 붙인 구간(업로드 하나)은 복사하지 않고 뒤에 매달아 두고 읽을 때 구간을 건너가며 읽음
+ *   - 수정하기 전에, 또는 compact() 호출 시 기본 컬럼으로 합침
+ *   - 합칠 때는 기존 컬럼을 고치지 않고 합친 컬럼을 새로 만든 뒤, 행 수와 함께 layout 교체 한 번으로 반영
+ *   - 잠금 밖에서 합치려면 startCompaction(잠금 안) → Compaction.build(잠금 밖) → finishCompaction(잠금 안)
+ * - 정렬/필터/중복 제거용 컬럼 색인(ColumnIndex)은 처음 필요할 때 만들고, 값이나 구조가 바뀌면 버림
+ *   (같은 버전의 스냅샷끼리는 색인을 공유)
+ */
+public class ExcelTable {
+
+    private final List<String> headers;
+    private List<ColumnVector> columns;
+    private int rowCount;               // columns 에 들어 있는 행 수
+    private volatile Layout layout;     // 읽기용 배치 (columns, 그 행 수 + 매달린 구간)
+    private final Map<ColumnVector, Integer> shared = new IdentityHashMap<>();   // 스냅샷과 공유 중인 컬럼 → 잡고 있는 수
+    private volatile Map<Integer, ColumnIndex> indexes = new ConcurrentHashMap<>();   // 지금 버전의 색인 (스냅샷과 공유)
+    private ExcelTable origin;          // 스냅샷이면 원본 테이블 (release 전까지)
+    private List<ColumnVector> held;    // 스냅샷이 원본에서 잡고 있는 컬럼
+
+    public ExcelTable(List<String> headers) {
+        this.headers = new ArrayList<>(headers);
+        this.columns = new ArrayList<>(headers.size());
+        for (int i = 0; i < headers.size(); i++) {
+            columns.add(ColumnVector.empty());
+        }
+        this.layout = Layout.of(columns, 0);
+    }
+
+    ExcelTable(List<String> headers, List<ColumnVector> columns, int rowCount) {
+        this.headers = headers;
+        this.columns = columns;
+        this.rowCount = rowCount;
+        this.layout = Layout.of(columns, rowCount);
+    }
+
+    public static ExcelTable empty() {
+        return new ExcelTable(List.of());
+    }
+
+    /**
+     * 행 리스트로 테이블 생성
+     */
+    public static ExcelTable of(List<String> headers, List<List<String>> rows) {
+        ExcelTable table = new ExcelTable(headers);
+        for (List<String> row : rows) {
+            table.appendRow(row);
+        }
+        return table;
+    }
+
+    public List<String> getHeaders() {
+        return Collections.unmodifiableList(headers);
+    }
+
+    public int getRowCount() {
+        return layout.totalRows();
+    }
+
+    /**
+     * 아직 합치지 않은 구간 수
+     */
+    public int getSegmentCount() {
+        return layout.segments().size();
+    }
+
+    /**
+     * 컬럼 수 (헤더 수보다 긴 행이 있으면 헤더 수보다 클 수 있음)
+     */
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    /**
+     * 셀 값
+     */
+    public String get(int row, int col) {
+        Layout current = layout;
+        checkRow(current, row);
+        return cell(current, row, col);
+    }
+
+    /**
+     * 행 하나의 읽기 전용 뷰 (복사하지 않음)
+     */
+    public List<String> getRow(int row) {
+        Layout current = layout;
+        checkRow(current, row);
+        return new RowView(current, row);
+    }
+
+    /**
+     * 전체 행의 읽기 전용 뷰 (복사하지 않음)
+     */
+    public List<List<String>> rows() {
+        return new AbstractList<>() {
+            @Override
+            public List<String> get(int index) {
+                return getRow(index);
+            }
+
+            @Override
+            public int size() {
+                return getRowCount();
+            }
+        };
+    }
+
+    /**
+     * 행 추가
+     */
+    public void appendRow(List<String> values) {
+        compact();
+        ensureColumnCount(values.size());
+        for (int col = 0; col < columns.size(); col++) {
+            append(col, col < values.size() ? values.get(col) : "");
+        }
+        setRowCount(rowCount + 1);
+        modified();
+    }
+
+    /**
+     * 다른 테이블의 데이터 행을 모두 뒤에 추가 (헤더는 이 테이블 기준)
+     */
+    public void appendAll(ExcelTable other) {
+        appendAll(other, new int[0]);
+    }
+
+    /**
+     * 다른 테이블의 데이터 행을 컬럼 순서를 바꿔서 뒤에 추가
+     * - sourceColumns[col] 는 이 테이블 col 번째 컬럼에 들어갈 other 의 컬럼 위치 (HeaderFingerprint.permutationFrom)
+     * - 순열 길이를 넘는 컬럼은 같은 위치끼리
+     */
+    public void appendAll(ExcelTable other, int[] sourceColumns) {
+        compact();
+        Layout source = other.layout;
+        appendColumns(source.columns(), source.baseRows(), sourceColumns);
+        for (ExcelTable segment : source.segments()) {
+            appendColumns(segment.columns, segment.rowCount, sourceColumns);
+        }
+        setRowCount(rowCount);
+        modified();
+    }
+
+    /**
+     * 다른 테이블을 복사하지 않고 구간으로 뒤에 매달기 (컬럼 순서는 이 테이블과 같아야 함)
+     * - 매단 뒤에는 segment 를 수정하면 안 됨 (이 테이블의 일부가 됨)
+     * - segment 가 더 넓으면 이 테이블에 빈 열을 추가
+     */
+    public void appendSegment(ExcelTable segment) {
+        segment.compact();
+        ensureColumnCount(segment.getColumnCount());
+        if (segment.rowCount > 0) {
+            layout = layout.plus(segment);
+        }
+        modified();
+    }
+
+    /**
+     * 매달린 구간을 기본 컬럼으로 합침 (합친 컬럼을 새로 만들어서 교체)
+     */
+    public void compact() {
+        if (layout.segments().isEmpty()) {
+            return;
+        }
+        Compaction compaction = startCompaction();
+        compaction.build();
+        finishCompaction(compaction);
+    }
+
+    /**
+     * 잠금 밖에서 합칠 준비 - 지금의 기본 컬럼과 매달린 구간을 잡아 둠
+     * - 잡아 둔 컬럼은 공유 표시 (그 사이 수정은 복사본에 하므로 build 가 읽는 컬럼은 바뀌지 않음)
+     */
+    public Compaction startCompaction() {
+        List<ColumnVector> frozen = List.copyOf(columns);
+        hold(frozen);
+        return new Compaction(layout.withColumns(frozen));
+    }
+
+    /**
+     * build 한 결과로 기본 컬럼 교체 - 컬럼 목록과 행 수를 layout 하나로 한 번에 바꿈
+     * - 잡아 둔 뒤 기본 컬럼이 바뀌었으면 (수정, 합치기) 버림
+     * - 그 사이 새로 매단 구간은 합친 컬럼 뒤에 그대로 남김
+     * - 반영 여부와 관계없이 잡아 둔 컬럼의 공유 표시를 풂 (스냅샷이 아직 잡고 있는 컬럼은 계속 공유 중)
+     *
+     * @return 반영했으면 true
+     */
+    public boolean finishCompaction(Compaction compaction) {
+        if (compaction.finished) {
+            return false;
+        }
+        compaction.finished = true;
+        Layout from = compaction.from;
+        Layout current = layout;
+        List<ColumnVector> frozen = from.columns();
+        unhold(frozen);
+        if (compaction.merged == null || !current.startsWith(from) || columns.size() < frozen.size()) {
+            return false;
+        }
+        for (int col = 0; col < frozen.size(); col++) {
+            if (columns.get(col) != frozen.get(col)) {
+                return false;
+            }
+        }
+
+        List<ColumnVector> merged = new ArrayList<>(compaction.merged);
+        for (int col = merged.size(); col < columns.size(); col++) {
+            // 그 사이 더 넓은 구간을 매달면서 늘어난 열 - 합친 행은 모두 빈 값
+            merged.add(blanks(ColumnVector.empty(), from.totalRows()));
+        }
+        frozen.forEach(shared::remove);   // 합친 뒤에는 이 테이블의 컬럼이 아님
+
+        Layout next = Layout.of(merged, from.totalRows());
+        for (ExcelTable segment : current.segments().subList(from.segments().size(), current.segments().size())) {
+            next = next.plus(segment);
+        }
+        columns = merged;
+        rowCount = from.totalRows();
+        layout = next;
+        return true;
+    }
+
+    /**
+     * 셀 값 수정
+     */
+    public void set(int row, int col, String value) {
+        compact();
+        checkRow(row);
+        checkColumn(col);
+        String v = value != null ? value : "";
+        write(col, v, column -> column.trySet(row, v));
+        modified();
+    }
+
+    /**
+     * row 위치에 행 삽입 (row == 행 수이면 맨 뒤에 추가)
+     */
+    public void insertRow(int row, List<String> values) {
+        compact();
+        if (row < 0 || row > rowCount) {
+            throw new IndexOutOfBoundsException("row: " + row + ", rowCount: " + rowCount);
+        }
+        ensureColumnCount(values.size());
+        for (int col = 0; col < columns.size(); col++) {
+            String v = col < values.size() && values.get(col) != null ? values.get(col) : "";
+            write(col, v, column -> column.tryInsert(row, v));
+        }
+        setRowCount(rowCount + 1);
+        modified();
+    }
+
+    /**
+     * 행 삭제
+     */
+    public void deleteRow(int row) {
+        compact();
+        checkRow(row);
+        for (int col = 0; col < columns.size(); col++) {
+            writable(col).remove(row);
+        }
+        setRowCount(rowCount - 1);
+        modified();
+    }
+
+    /**
+     * col 위치에 빈 열 삽입 (col == 열 수이면 맨 뒤에 추가)
+     */
+    public void insertColumn(int col, String name) {
+        compact();
+        if (col < 0 || col > columns.size()) {
+            throw new IndexOutOfBoundsException("col: " + col + ", columnCount: " + columns.size());
+        }
+        columns.add(col, blankColumn());
+        ensureHeaderCount(col);
+        headers.add(col, name != null ? name : "");
+        modified();
+    }
+
+    /**
+     * 열 삭제
+     */
+    public void deleteColumn(int col) {
+        compact();
+        checkColumn(col);
+        shared.remove(columns.remove(col));
+        if (col < headers.size()) {
+            headers.remove(col);
+        }
+        modified();
+    }
+
+    /**
+     * from 위치의 열을 to 위치로 이동
+     */
+    public void moveColumn(int from, int to) {
+        compact();
+        checkColumn(from);
+        checkColumn(to);
+        ensureHeaderCount(Math.max(from, to) + 1);
+        columns.add(to, columns.remove(from));
+        headers.add(to, headers.remove(from));
+        modified();
+    }
+
+    /**
+     * 열 이름 변경
+     */
+    public void renameColumn(int col, String name) {
+        checkColumn(col);
+        ensureHeaderCount(col + 1);
+        headers.set(col, name != null ? name : "");
+    }
+
+    /**
+     * 읽기 전용 스냅샷 - 잠금 밖에서 오래 읽어도 (다운로드, 화면 조회) 이후 수정/합치기의 영향을 받지 않음
+     * - 컬럼은 복사하지 않고 공유 (O(열 수)), 이 테이블은 공유 중인 컬럼을 다음에 고칠 때 복사해서 고침
+     * - 스냅샷도 수정할 수는 있지만 (공유 컬럼 복사) 읽기 용도로만 사용
+     * - 다 읽으면 release() (호출하지 않으면 공유 표시가 남아서 다음 수정 때 복사할 뿐 값은 맞음)
+     */
+    public ExcelTable snapshot() {
+        List<ColumnVector> frozen = new ArrayList<>(columns);
+        hold(frozen);
+        ExcelTable snapshot = new ExcelTable(new ArrayList<>(headers), frozen, rowCount);
+        snapshot.hold(frozen);
+        snapshot.layout = layout.withColumns(frozen);
+        snapshot.indexes = indexes;
+        snapshot.origin = this;
+        snapshot.held = List.copyOf(frozen);
+        return snapshot;
+    }
+
+    /**
+     * 스냅샷을 다 읽음 - 원본 테이블의 공유 표시를 풀어 줌 (원본과 같은 잠금 안에서 호출, 이후에는 읽지 않음)
+     * - 다른 스냅샷이 아직 잡고 있는 컬럼은 그대로 공유 중, 여러 번 호출해도 한 번만 반영
+     */
+    public void release() {
+        if (origin != null) {
+            origin.unhold(held);
+            origin = null;
+            held = null;
+        }
+    }
+
+    /**
+     * 깊은 복사 (매달린 구간은 바뀌지 않으므로 그대로 공유)
+     */
+    public ExcelTable copy() {
+        Layout current = layout;
+        List<ColumnVector> copied = new ArrayList<>(current.columns().size());
+        for (ColumnVector column : current.columns()) {
+            copied.add(column.copy());
+        }
+        ExcelTable copy = new ExcelTable(new ArrayList<>(headers), copied, current.baseRows());
+        copy.layout = current.withColumns(copied);
+        return copy;
+    }
+
+    /**
+     * 고른 행만 순서대로 담은 새 테이블 (TableQuery 결과 등, 헤더는 그대로)
+     * - 컬럼마다 같은 타입으로 골라 담음 (값을 문자열로 바꿨다가 다시 파싱하지 않음)
+     * - 매달린 구간이 있으면 합친 컬럼을 따로 만들어서 고름 (이 테이블은 바꾸지 않음)
+     */
+    public ExcelTable select(int[] rows) {
+        Layout current = layout;
+        for (int row : rows) {
+            checkRow(current, row);
+        }
+        List<ColumnVector> source = current.segments().isEmpty() ? current.columns() : Compaction.merge(current);
+        List<ColumnVector> selected = new ArrayList<>(source.size());
+        for (ColumnVector column : source) {
+            selected.add(column.select(rows));
+        }
+        return new ExcelTable(new ArrayList<>(headers), selected, rows.length);
+    }
+
+    /**
+     * 고른 행만 순서대로 남김 (TableQuery 결과 적용 - 헤더는 그대로)
+     */
+    public void retainRows(int[] rows) {
+        compact();
+        ExcelTable selected = select(rows);
+        shared.clear();
+        columns = selected.columns;
+        setRowCount(selected.rowCount);
+        modified();
+    }
+
+    /**
+     * 대략적인 힙 사용량 (bytes) - 지금 버전의 컬럼 색인 포함
+     */
+    public long estimatedBytes() {
+        long bytes = 64;
+        for (String header : headers) {
+            bytes += ColumnVector.stringBytes(header);
+        }
+        for (ColumnVector column : columns) {
+            bytes += column.estimatedBytes();
+        }
+        for (ExcelTable segment : layout.segments()) {
+            bytes += segment.estimatedBytes();
+        }
+        for (ColumnIndex index : indexes.values()) {
+            bytes += index.estimatedBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * 기본 컬럼 (파일 저장용 - 호출 전에 compact())
+     */
+    List<ColumnVector> columns() {
+        return columns;
+    }
+
+    /**
+     * col 컬럼 색인 - 지금 버전에 만든 것이 없으면 만듦
+     * - 동시에 처음 요청하면 두 번 만들 수 있음 (결과는 같음)
+     */
+    ColumnIndex index(int col) {
+        checkColumn(col);
+        Map<Integer, ColumnIndex> current = indexes;
+        ColumnIndex index = current.get(col);
+        if (index == null) {
+            index = ColumnIndex.build(this, col);
+            current.put(col, index);
+        }
+        return index;
+    }
+
+    /**
+     * 값이나 구조가 바뀜 - 새 색인 맵으로 교체 (이전 맵은 이전 스냅샷이 계속 사용)
+     */
+    private void modified() {
+        indexes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 고치기 전 호출 - 스냅샷과 공유 중인 컬럼이면 복사본으로 교체
+     */
+    private ColumnVector writable(int col) {
+        ColumnVector column = columns.get(col);
+        if (!shared.isEmpty() && shared.remove(column) != null) {
+            column = column.copy();
+            columns.set(col, column);
+        }
+        return column;
+    }
+
+    /**
+     * 컬럼 공유 표시 (잡고 있는 수 + 1)
+     */
+    private void hold(List<ColumnVector> held) {
+        for (ColumnVector column : held) {
+            shared.merge(column, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * 컬럼 공유 표시 해제 - 아무도 잡고 있지 않으면 다시 제자리에서 고침 (이미 복사해서 떼어 낸 컬럼은 무시)
+     */
+    private void unhold(List<ColumnVector> held) {
+        for (ColumnVector column : held) {
+            shared.computeIfPresent(column, (c, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    /**
+     * 스냅샷 기준 셀 값
+     */
+    private String cell(Layout current, int row, int col) {
+        if (row < current.baseRows()) {
+            List<ColumnVector> base = current.columns();
+            return col < base.size() ? base.get(col).get(row) : "";
+        }
+        int i = current.segmentAt(row);
+        ExcelTable segment = current.segments().get(i);
+        return col < segment.columns.size() ? segment.columns.get(col).get(row - current.starts()[i]) : "";
+    }
+
+    /**
+     * source 컬럼들의 rows 행을 뒤에 추가 (읽기 스냅샷은 호출한 쪽에서 setRowCount 로 반영)
+     */
+    private void appendColumns(List<ColumnVector> source, int rows, int[] sourceColumns) {
+        ensureColumnCount(Math.max(source.size(), sourceColumns.length));
+        for (int col = 0; col < columns.size(); col++) {
+            int sourceCol = col < sourceColumns.length ? sourceColumns[col] : col;
+            if (sourceCol < source.size()) {
+                // 같은 타입끼리는 배열 복사 (셀마다 문자열로 바꿨다가 다시 파싱하지 않음)
+                columns.set(col, writable(col).appendFrom(source.get(sourceCol), rows));
+            } else {
+                for (int row = 0; row < rows; row++) {
+                    append(col, "");
+                }
+            }
+        }
+        rowCount += rows;
+    }
+
+    /**
+     * 기본 컬럼 행 수 변경 - 매달린 구간이 없는 상태에서만 (수정 전 compact)
+     */
+    private void setRowCount(int count) {
+        rowCount = count;
+        layout = Layout.of(columns, count);
+    }
+
+    private void append(int col, String value) {
+        String v = value != null ? value : "";
+        ColumnVector column = writable(col);
+        if (column.tryAppend(v)) {
+            return;
+        }
+        do {
+            column = column.promote(v);
+        } while (!column.tryAppend(v));
+        columns.set(col, column);
+    }
+
+    /**
+     * 수정/삽입 - 현재 타입에 못 담으면 승격 후 다시 시도
+     */
+    private void write(int col, String value, Predicate<ColumnVector> writer) {
+        ColumnVector column = writable(col);
+        if (writer.test(column)) {
+            return;
+        }
+        do {
+            column = column.promote(value);
+        } while (!writer.test(column));
+        columns.set(col, column);
+    }
+
+    /**
+     * 컬럼 수를 count 이상으로 늘림 (기존 행은 빈 값)
+     */
+    private void ensureColumnCount(int count) {
+        while (columns.size() < count) {
+            columns.add(blankColumn());
+        }
+    }
+
+    /**
+     * 헤더 수를 count 이상으로 늘림 (헤더 없는 열은 빈 이름)
+     */
+    private void ensureHeaderCount(int count) {
+        while (headers.size() < count) {
+            headers.add("");
+        }
+    }
+
+    /**
+     * 현재 행 수만큼 빈 값으로 채운 컬럼
+     */
+    private ColumnVector blankColumn() {
+        return blanks(ColumnVector.empty(), rowCount);
+    }
+
+    /**
+     * 빈 값 rows 개 추가 (빈 값은 어느 타입에나 담김)
+     */
+    private static ColumnVector blanks(ColumnVector column, int rows) {
+        for (int i = 0; i < rows; i++) {
+            column.tryAppend("");
+        }
+        return column;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("row: " + row + ", rowCount: " + rowCount);
+        }
+    }
+
+    private static void checkRow(Layout current, int row) {
+        if (row < 0 || row >= current.totalRows()) {
+            throw new IndexOutOfBoundsException("row: " + row + ", rowCount: " + current.totalRows());
+        }
+    }
+
+    private void checkColumn(int col) {
+        if (col < 0 || col >= columns.size()) {
+            throw new IndexOutOfBoundsException("col: " + col + ", columnCount: " + columns.size());
+        }
+    }
+
+    /**
+     * 행 하나의 뷰
+     */
+    private class RowView extends AbstractList<String> {
+
+        private final Layout layout;
+        private final int row;
+
+        RowView(Layout layout, int row) {
+            this.layout = layout;
+            this.row = row;
+        }
+
+        @Override
+        public String get(int col) {
+            if (col < 0 || col >= size()) {
+                throw new IndexOutOfBoundsException("col: " + col + ", columnCount: " + size());
+            }
+            return cell(layout, row, col);
+        }
+
+        @Override
+        public int size() {
+            return layout.columns().size();
+        }
+    }
+
+    /**
+     * 잠금 밖에서 하는 구간 합치기 - 잡아 둔 컬럼은 읽기만 하고 합친 컬럼은 새로 만듦
+     */
+    public static final class Compaction {
+
+        private final Layout from;
+        private List<ColumnVector> merged;
+        private boolean finished;
+
+        private Compaction(Layout from) {
+            this.from = from;
+        }
+
+        public int getSegmentCount() {
+            return from.segments().size();
+        }
+
+        /**
+         * 기본 컬럼 복사본 뒤에 구간들을 이어 붙임 (같은 타입끼리는 배열 복사)
+         */
+        public void build() {
+            merged = merge(from);
+        }
+
+        /**
+         * from 의 기본 컬럼 복사본 뒤에 구간들을 이어 붙인 새 컬럼들 (from 은 읽기만 함)
+         */
+        static List<ColumnVector> merge(Layout from) {
+            int columnCount = from.columns().size();
+            for (ExcelTable segment : from.segments()) {
+                columnCount = Math.max(columnCount, segment.columns.size());
+            }
+            List<ColumnVector> result = new ArrayList<>(columnCount);
+            for (int col = 0; col < columnCount; col++) {
+                ColumnVector column = col < from.columns().size()
+                        ? from.columns().get(col).copy()
+                        : blanks(ColumnVector.empty(), from.baseRows());
+                for (ExcelTable segment : from.segments()) {
+                    column = col < segment.columns.size()
+                            ? column.appendFrom(segment.columns.get(col), segment.rowCount)
+                            : blanks(column, segment.rowCount);
+                }
+                result.add(column);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 읽기용 배치 - 기본 컬럼과 그 행 수, 뒤에 매달린 구간들 (바꿀 때는 새 객체로 교체)
+     *
+     * @param starts 구간별 시작 행 (테이블 전체 기준)
+     */
+    private record Layout(List<ColumnVector> columns, int baseRows, List<ExcelTable> segments, int[] starts,
+                          int totalRows) {
+
+        static Layout of(List<ColumnVector> columns, int baseRows) {
+            return new Layout(columns, baseRows, List.of(), new int[0], baseRows);
+        }
+
+        Layout plus(ExcelTable segment) {
+            List<ExcelTable> added = new ArrayList<>(segments);
+            added.add(segment);
+            int[] addedStarts = Arrays.copyOf(starts, starts.length + 1);
+            addedStarts[starts.length] = totalRows;
+            return new Layout(columns, baseRows, List.copyOf(added), addedStarts, totalRows + segment.rowCount);
+        }
+
+        Layout withColumns(List<ColumnVector> other) {
+            return new Layout(other, baseRows, segments, starts, totalRows);
+        }
+
+        /**
+         * earlier 이후로 기본 행 수가 그대로이고 구간만 뒤에 더 매달렸는지
+         */
+        boolean startsWith(Layout earlier) {
+            if (baseRows != earlier.baseRows || segments.size() < earlier.segments.size()) {
+                return false;
+            }
+            for (int i = 0; i < earlier.segments.size(); i++) {
+                if (segments.get(i) != earlier.segments.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * row(기본 컬럼 뒤) 가 들어 있는 구간 번호
+         */
+        int segmentAt(int row) {
+            int i = Arrays.binarySearch(starts, row);
+            return i >= 0 ? i : -i - 2;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 헤더 지문 - 파일마다 한 번만 계산해서 컬럼 구성 비교/정렬에 사용
+ * - 헤더 이름은 앞뒤 공백 제거, 연속 공백 하나로, 대소문자 무시로 정규화
+ * - 지문은 정규화된 이름 해시의 합이라 순서와 무관 (같은 이름이 여러 번 나오면 그 수까지 반영)
+ * - 지문이 같으면 이름별 위치를 비교해서 순열(permutation)을 만들고, 병합은 순열대로 컬럼을 통째로 옮김
+ */
+public final class HeaderFingerprint {
+
+    private final List<String> names;       // 정규화된 이름 (원래 순서)
+    private final long hash;
+
+    private HeaderFingerprint(List<String> names, long hash) {
+        this.names = names;
+        this.hash = hash;
+    }
+
+    public static HeaderFingerprint of(List<String> headers) {
+        String[] names = new String[headers.size()];
+        long hash = 0;
+        for (int i = 0; i < names.length; i++) {
+            names[i] = normalize(headers.get(i));
+            hash += mix(names[i].hashCode());
+        }
+        return new HeaderFingerprint(Arrays.asList(names), hash);
+    }
+
+    /**
+     * 순서까지 같은지
+     */
+    public boolean sameOrder(HeaderFingerprint other) {
+        return hash == other.hash && names.equals(other.names);
+    }
+
+    /**
+     * source 의 컬럼을 이 헤더 순서로 옮기는 순열 - result[i] 는 이 헤더 i 번째 컬럼에 들어갈 source 컬럼 위치
+     * - 같은 이름이 여러 개면 나온 순서대로 짝지음
+     *
+     * @return 컬럼 구성이 다르면 null
+     */
+    public int[] permutationFrom(HeaderFingerprint source) {
+        if (hash != source.hash || names.size() != source.names.size()) {
+            return null;
+        }
+        Map<String, ArrayDeque<Integer>> positions = new HashMap<>(names.size() * 2);
+        for (int i = 0; i < source.names.size(); i++) {
+            positions.computeIfAbsent(source.names.get(i), k -> new ArrayDeque<>()).add(i);
+        }
+        int[] permutation = new int[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            ArrayDeque<Integer> candidates = positions.get(names.get(i));
+            if (candidates == null || candidates.isEmpty()) {
+                // 해시 충돌
+                return null;
+            }
+            permutation[i] = candidates.poll();
+        }
+        return permutation;
+    }
+
+    /**
+     * 순서가 달라도 같은 컬럼 구성인지
+     */
+    public boolean sameColumns(HeaderFingerprint other) {
+        return sameOrder(other) || permutationFrom(other) != null;
+    }
+
+    private static String normalize(String header) {
+        if (header == null) {
+            return "";
+        }
+        return header.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 합으로 모을 때 비슷한 해시끼리 상쇄되지 않도록 비트를 섞음 (SplitMix64 마무리 단계)
+     */
+    private static long mix(long h) {
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HeaderFingerprint[%d columns, %016x]", names.size(), hash);
+    }
+}
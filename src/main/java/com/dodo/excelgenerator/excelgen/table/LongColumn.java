@@ -0,0 +1,162 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 정수 컬럼 - long[] 저장 ("007", "+1" 처럼 되돌렸을 때 문자열이 달라지는 값은 받지 않음)
+ */
+final class LongColumn extends PrimitiveColumn {
+
+    private long[] values = new long[0];
+
+    LongColumn() {
+    }
+
+    private LongColumn(LongColumn source) {
+        super(source);
+        this.values = Arrays.copyOf(source.values, source.size);
+    }
+
+    /**
+     * Long.toString 으로 되돌렸을 때 같은 문자열이 되는 정수인지
+     */
+    static boolean accepts(String value) {
+        int len = value.length();
+        if (len == 0 || len > 20) {
+            return false;
+        }
+        int start = value.charAt(0) == '-' ? 1 : 0;
+        if (start == len || (value.charAt(start) == '0' && (len - start > 1 || start == 1))) {
+            return false;   // "-", "01", "-0"
+        }
+        for (int i = start; i < len; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        if (len - start < 19) {
+            return true;
+        }
+        try {
+            Long.parseLong(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;   // long 범위 초과
+        }
+    }
+
+    long getLong(int row) {
+        return values[row];
+    }
+
+    @Override
+    ColumnType type() {
+        return ColumnType.LONG;
+    }
+
+    @Override
+    protected boolean canStore(String value) {
+        return accepts(value);
+    }
+
+    @Override
+    protected void store(int row, String value) {
+        values[row] = Long.parseLong(value);
+    }
+
+    @Override
+    protected String format(int row) {
+        return Long.toString(values[row]);
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, grow(values.length, capacity));
+        }
+    }
+
+    @Override
+    protected void shiftValues(int row, int delta) {
+        if (delta > 0) {
+            System.arraycopy(values, row, values, row + 1, size - row);
+        } else {
+            System.arraycopy(values, row + 1, values, row, size - row - 1);
+        }
+    }
+
+    /**
+     * 실수가 섞이면 (금액, 단가) 사전 문자열 대신 실수 컬럼으로 - 정수였던 행은 정수 모양 그대로 출력
+     */
+    @Override
+    ColumnVector promote(String value) {
+        if (DoubleColumn.accepts(value)) {
+            DoubleColumn promoted = DoubleColumn.copyOf(this);
+            if (promoted != null) {
+                return promoted;
+            }
+        }
+        return super.promote(value);
+    }
+
+    @Override
+    ColumnVector copy() {
+        return new LongColumn(this);
+    }
+
+    @Override
+    ColumnVector select(int[] rows) {
+        LongColumn column = new LongColumn();
+        column.values = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            column.values[i] = values[rows[i]];
+        }
+        selectBits(blanks, rows, column.blanks);
+        column.size = rows.length;
+        return column;
+    }
+
+    @Override
+    ColumnVector appendFrom(ColumnVector source, int rows) {
+        if (source instanceof LongColumn longs) {
+            ensureCapacity(size + rows);
+            System.arraycopy(longs.values, 0, values, size, rows);
+            copyBits(longs.blanks, rows, blanks, size);
+            size += rows;
+            return this;
+        }
+        if (source instanceof DoubleColumn && size > 0) {
+            DoubleColumn promoted = DoubleColumn.copyOf(this);
+            if (promoted != null) {
+                return promoted.appendFrom(source, rows);
+            }
+        }
+        return super.appendFrom(source, rows);
+    }
+
+    @Override
+    void writeTo(DataOutput out) throws IOException {
+        super.writeTo(out);
+        for (int i = 0; i < size; i++) {
+            out.writeLong(values[i]);
+        }
+    }
+
+    static LongColumn readFrom(ByteBuffer in) {
+        LongColumn column = new LongColumn();
+        column.readHeader(in);
+        column.values = new long[column.size];
+        in.asLongBuffer().get(column.values);
+        in.position(in.position() + column.size * Long.BYTES);
+        return column;
+    }
+
+    @Override
+    long estimatedBytes() {
+        return 48 + 8L * values.length + blanks.size() / 8;
+    }
+}
@@ -0,0 +1,189 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+/**
+ * 원시 타입 컬럼 공통 - 빈 값("")은 blanks 비트로 표시
+ */
+abstract class PrimitiveColumn extends ColumnVector {
+
+    protected final BitSet blanks;
+    protected int size;
+
+    protected PrimitiveColumn() {
+        this.blanks = new BitSet();
+    }
+
+    protected PrimitiveColumn(PrimitiveColumn source) {
+        this.blanks = (BitSet) source.blanks.clone();
+        this.size = source.size;
+    }
+
+    /**
+     * 비어있지 않은 value 를 이 타입으로 손실 없이 담을 수 있는지
+     */
+    protected abstract boolean canStore(String value);
+
+    /**
+     * row 위치에 값 저장 (canStore 통과한 값만)
+     */
+    protected abstract void store(int row, String value);
+
+    protected abstract String format(int row);
+
+    protected abstract void ensureCapacity(int capacity);
+
+    /**
+     * 값 배열 이동 - delta 1 이면 row 위치를 비우고, -1 이면 row 위치를 지움
+     */
+    protected abstract void shiftValues(int row, int delta);
+
+    @Override
+    int size() {
+        return size;
+    }
+
+    @Override
+    String get(int row) {
+        return blanks.get(row) ? "" : format(row);
+    }
+
+    @Override
+    boolean tryAppend(String value) {
+        if (!value.isEmpty() && !canStore(value)) {
+            return false;
+        }
+        ensureCapacity(size + 1);
+        put(size, value);
+        size++;
+        return true;
+    }
+
+    @Override
+    boolean trySet(int row, String value) {
+        if (!value.isEmpty() && !canStore(value)) {
+            return false;
+        }
+        put(row, value);
+        return true;
+    }
+
+    @Override
+    boolean tryInsert(int row, String value) {
+        if (!value.isEmpty() && !canStore(value)) {
+            return false;
+        }
+        ensureCapacity(size + 1);
+        shiftValues(row, 1);
+        shiftBits(blanks, row, size, 1);
+        size++;
+        put(row, value);
+        return true;
+    }
+
+    @Override
+    void remove(int row) {
+        shiftValues(row, -1);
+        shiftBits(blanks, row, size, -1);
+        size--;
+    }
+
+    @Override
+    ColumnVector promote(String value) {
+        // 아직 값이 하나도 없으면 value 에 맞는 타입으로 새로 시작
+        ColumnVector promoted = blanks.cardinality() == size ? ColumnVector.forValue(value) : new DictionaryColumn();
+        for (int i = 0; i < size; i++) {
+            if (!promoted.tryAppend(get(i))) {
+                // 서로 다른 값이 너무 많아 사전에 다 안 들어가면 일반 문자열로
+                return StringColumn.copyOf(this);
+            }
+        }
+        return promoted;
+    }
+
+    private void put(int row, String value) {
+        if (value.isEmpty()) {
+            blanks.set(row);
+        } else {
+            blanks.clear(row);
+            store(row, value);
+        }
+    }
+
+    /**
+     * 행 수 + blanks 기록 (값 배열은 하위 클래스가 이어서 기록)
+     */
+    @Override
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size);
+        writeBits(out, blanks);
+    }
+
+    /**
+     * writeTo 로 기록한 행 수 + blanks 읽기
+     */
+    protected void readHeader(ByteBuffer in) {
+        size = in.getInt();
+        blanks.or(readBits(in));
+    }
+
+    static void writeBits(DataOutput out, BitSet bits) throws IOException {
+        long[] words = bits.toLongArray();
+        out.writeInt(words.length);
+        for (long word : words) {
+            out.writeLong(word);
+        }
+    }
+
+    static BitSet readBits(ByteBuffer in) {
+        long[] words = new long[in.getInt()];
+        in.asLongBuffer().get(words);
+        in.position(in.position() + words.length * Long.BYTES);
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * BitSet 의 [row, size) 구간을 delta 만큼 이동
+     */
+    static void shiftBits(BitSet bits, int row, int size, int delta) {
+        if (delta > 0) {
+            for (int i = size; i > row; i--) {
+                bits.set(i, bits.get(i - 1));
+            }
+            bits.clear(row);
+        } else {
+            for (int i = row; i < size - 1; i++) {
+                bits.set(i, bits.get(i + 1));
+            }
+            bits.clear(size - 1);
+        }
+    }
+
+    /**
+     * source 의 rows 위치 비트를 target 의 0 번부터 순서대로 복사
+     */
+    static void selectBits(BitSet source, int[] rows, BitSet target) {
+        for (int i = 0; i < rows.length; i++) {
+            if (source.get(rows[i])) {
+                target.set(i);
+            }
+        }
+    }
+
+    /**
+     * source 의 [0, count) 비트를 target 의 targetFrom 위치부터 복사
+     */
+    static void copyBits(BitSet source, int count, BitSet target, int targetFrom) {
+        target.clear(targetFrom, targetFrom + count);
+        for (int i = source.nextSetBit(0); i >= 0 && i < count; i = source.nextSetBit(i + 1)) {
+            target.set(targetFrom + i);
+        }
+    }
+
+    static int grow(int current, int required) {
+        return Math.max(required, Math.max(16, current + (current >> 1)));
+    }
+}
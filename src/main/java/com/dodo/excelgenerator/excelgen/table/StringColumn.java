@@ -0,0 +1,142 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 일반 문자열 컬럼 - 이름처럼 종류가 많은 값용 (모든 값을 담을 수 있음)
+ */
+final class StringColumn extends ColumnVector {
+
+    private String[] values = new String[0];
+    private int size;
+
+    StringColumn() {
+    }
+
+    static StringColumn copyOf(ColumnVector source) {
+        StringColumn column = new StringColumn();
+        column.values = new String[Math.max(16, source.size())];
+        for (int i = 0; i < source.size(); i++) {
+            column.values[i] = source.get(i);
+        }
+        column.size = source.size();
+        return column;
+    }
+
+    @Override
+    ColumnType type() {
+        return ColumnType.STRING;
+    }
+
+    @Override
+    int size() {
+        return size;
+    }
+
+    @Override
+    String get(int row) {
+        return values[row];
+    }
+
+    @Override
+    boolean tryAppend(String value) {
+        ensureCapacity(size + 1);
+        values[size++] = value;
+        return true;
+    }
+
+    @Override
+    boolean trySet(int row, String value) {
+        values[row] = value;
+        return true;
+    }
+
+    @Override
+    boolean tryInsert(int row, String value) {
+        ensureCapacity(size + 1);
+        System.arraycopy(values, row, values, row + 1, size - row);
+        values[row] = value;
+        size++;
+        return true;
+    }
+
+    @Override
+    void remove(int row) {
+        System.arraycopy(values, row + 1, values, row, size - row - 1);
+        values[--size] = null;
+    }
+
+    @Override
+    ColumnVector promote(String value) {
+        throw new IllegalStateException("문자열 컬럼은 더 일반적인 타입이 없습니다.");
+    }
+
+    @Override
+    ColumnVector copy() {
+        StringColumn column = new StringColumn();
+        column.values = Arrays.copyOf(values, size);
+        column.size = size;
+        return column;
+    }
+
+    @Override
+    ColumnVector select(int[] rows) {
+        StringColumn column = new StringColumn();
+        column.values = new String[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            column.values[i] = values[rows[i]];
+        }
+        column.size = rows.length;
+        return column;
+    }
+
+    @Override
+    ColumnVector appendFrom(ColumnVector source, int rows) {
+        ensureCapacity(size + rows);
+        if (source instanceof StringColumn strings) {
+            System.arraycopy(strings.values, 0, values, size, rows);
+        } else {
+            for (int i = 0; i < rows; i++) {
+                values[size + i] = source.get(i);
+            }
+        }
+        size += rows;
+        return this;
+    }
+
+    @Override
+    long estimatedBytes() {
+        long bytes = 32 + 8L * values.length;
+        for (int i = 0; i < size; i++) {
+            bytes += stringBytes(values[i]);
+        }
+        return bytes;
+    }
+
+    @Override
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            writeString(out, values[i]);
+        }
+    }
+
+    static StringColumn readFrom(ByteBuffer in) {
+        StringColumn column = new StringColumn();
+        column.size = in.getInt();
+        column.values = new String[column.size];
+        for (int i = 0; i < column.size; i++) {
+            column.values[i] = readString(in);
+        }
+        return column;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, PrimitiveColumn.grow(values.length, capacity));
+        }
+    }
+}
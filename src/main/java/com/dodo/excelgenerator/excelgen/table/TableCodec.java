@@ -0,0 +1,78 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ExcelTable 이진 파일 저장/읽기
+ * - 컬럼 타입 그대로 (원시 배열, 사전) 기록해서 다시 읽을 때 타입 판별/파싱 없음
+ * - 읽기는 memory-mapped 파일에서 바로 배열로 복사
+ */
+public final class TableCodec {
+
+    private static final int MAGIC = 0x58544232;   // "XTB2" (실수 컬럼 integral 비트 추가)
+
+    private TableCodec() {
+    }
+
+    /**
+     * 테이블을 파일로 기록 (매달린 구간은 먼저 합침)
+     */
+    public static void write(ExcelTable table, Path file) throws IOException {
+        table.compact();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            out.writeInt(MAGIC);
+            List<String> headers = table.getHeaders();
+            out.writeInt(headers.size());
+            for (String header : headers) {
+                ColumnVector.writeString(out, header);
+            }
+            out.writeInt(table.getRowCount());
+
+            List<ColumnVector> columns = table.columns();
+            out.writeInt(columns.size());
+            for (ColumnVector column : columns) {
+                out.writeByte(column.type().ordinal());
+                column.writeTo(out);
+            }
+        }
+    }
+
+    /**
+     * write 로 기록한 파일을 테이블로 읽기
+     */
+    public static ExcelTable read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("저장 파일이 너무 큽니다: " + file);
+            }
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (in.getInt() != MAGIC) {
+                throw new IOException("테이블 저장 파일 형식이 아닙니다: " + file);
+            }
+
+            int headerCount = in.getInt();
+            List<String> headers = new ArrayList<>(headerCount);
+            for (int i = 0; i < headerCount; i++) {
+                headers.add(ColumnVector.readString(in));
+            }
+            int rowCount = in.getInt();
+
+            int columnCount = in.getInt();
+            List<ColumnVector> columns = new ArrayList<>(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                ColumnVector.ColumnType type = ColumnVector.ColumnType.values()[in.get()];
+                columns.add(ColumnVector.readFrom(type, in));
+            }
+            return new ExcelTable(headers, columns, rowCount);
+        }
+    }
+}
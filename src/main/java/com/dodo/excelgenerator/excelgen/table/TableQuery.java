@@ -0,0 +1,179 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * 테이블 정렬/필터/중복 제거 - 결과는 원래 테이블의 행 번호 목록 (행을 복사하지 않음)
+ * - 실행 순서: 필터(모두 만족) → 중복 제거(키 컬럼 값이 모두 같으면 처음 행만) → 정렬(앞 키 우선, 같으면 원래 순서)
+ * - 컬럼 색인(ColumnIndex)을 테이블에 두고 재사용하므로, 같은 테이블에 조건만 바꿔 반복하면
+ *   행 값을 다시 읽지 않고 int 배열만 다룸 (정렬은 키마다 계수 정렬 한 번)
+ * - 결과로 새 테이블이 필요하면 ExcelTable.select(rows)
+ */
+public final class TableQuery {
+
+    private final ExcelTable table;
+    private final List<Filter> filters = new ArrayList<>();
+    private int[] distinctColumns = new int[0];
+    private final List<Order> orders = new ArrayList<>();
+
+    private TableQuery(ExcelTable table) {
+        this.table = table;
+    }
+
+    public static TableQuery on(ExcelTable table) {
+        return new TableQuery(table);
+    }
+
+    /**
+     * col 값이 value 와 정확히 같은 행 (해시 조회)
+     */
+    public TableQuery whereEquals(int col, String value) {
+        filters.add(new Filter(col, index -> index.rowsEqualTo(value)));
+        return this;
+    }
+
+    /**
+     * col 값이 조건을 만족하는 행 (조건은 서로 다른 값마다 한 번만 평가)
+     */
+    public TableQuery where(int col, Predicate<String> predicate) {
+        filters.add(new Filter(col, index -> index.rowsMatching(predicate)));
+        return this;
+    }
+
+    /**
+     * 키 컬럼 값이 모두 같은 행은 처음 나온 행만 남김 (값은 정확히 같아야 함)
+     */
+    public TableQuery distinct(int... cols) {
+        this.distinctColumns = cols.clone();
+        return this;
+    }
+
+    /**
+     * 정렬 키 추가 (먼저 추가한 키가 우선) - 빈 값은 방향과 관계없이 마지막
+     */
+    public TableQuery orderBy(int col, boolean descending) {
+        orders.add(new Order(col, descending));
+        return this;
+    }
+
+    /**
+     * 실행 - 결과 행 번호 (출력 순서)
+     */
+    public int[] rows() {
+        // 정렬 키 하나, 오름차순이면 색인 순서 그대로
+        if (filters.isEmpty() && distinctColumns.length == 0 && orders.size() == 1 && !orders.get(0).descending()) {
+            return table.index(orders.get(0).col()).sortedRows();
+        }
+
+        int[] rows = filter();
+        if (distinctColumns.length > 0) {
+            rows = removeDuplicates(rows);
+        }
+        for (int i = orders.size() - 1; i >= 0; i--) {
+            rows = sort(rows, orders.get(i));
+        }
+        return rows;
+    }
+
+    /**
+     * 크기 비교 조건 - 숫자는 숫자끼리, 문자는 문자끼리(대소문자 무시)만 비교하고 빈 값은 제외
+     * 예) compared("100", c -> c > 0) : 100 보다 큰 숫자
+     */
+    public static Predicate<String> compared(String operand, IntPredicate test) {
+        return ColumnIndex.compared(operand, test);
+    }
+
+    private int[] filter() {
+        int rowCount = table.getRowCount();
+        BitSet selected = null;
+        for (Filter filter : filters) {
+            BitSet matched = filter.rows().apply(table.index(filter.col()));
+            if (selected == null) {
+                selected = matched;
+            } else {
+                selected.and(matched);
+            }
+        }
+        if (selected == null) {
+            int[] all = new int[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        return selected.stream().toArray();
+    }
+
+    /**
+     * 키 컬럼 순위를 이어 붙여 그룹 번호를 만들고 그룹마다 처음 행만 남김
+     */
+    private int[] removeDuplicates(int[] rows) {
+        int[] groups = new int[rows.length];
+        int groupCount = 0;
+        for (int k = 0; k < distinctColumns.length; k++) {
+            ColumnIndex index = table.index(distinctColumns[k]);
+            if (k == 0) {
+                for (int i = 0; i < rows.length; i++) {
+                    groups[i] = index.rank(rows[i]);
+                }
+                groupCount = index.distinctCount();
+                continue;
+            }
+            Map<Long, Integer> ids = new HashMap<>();
+            for (int i = 0; i < rows.length; i++) {
+                long key = ((long) groups[i] << 32) | index.rank(rows[i]);
+                Integer id = ids.get(key);
+                if (id == null) {
+                    id = ids.size();
+                    ids.put(key, id);
+                }
+                groups[i] = id;
+            }
+            groupCount = ids.size();
+        }
+
+        boolean[] seen = new boolean[groupCount];
+        int[] kept = new int[rows.length];
+        int count = 0;
+        for (int i = 0; i < rows.length; i++) {
+            if (!seen[groups[i]]) {
+                seen[groups[i]] = true;
+                kept[count++] = rows[i];
+            }
+        }
+        return count == rows.length ? rows : Arrays.copyOf(kept, count);
+    }
+
+    /**
+     * 키 하나로 안정 정렬 (계수 정렬) - 뒤 키부터 차례로 적용하면 앞 키가 우선
+     */
+    private int[] sort(int[] rows, Order order) {
+        ColumnIndex index = table.index(order.col());
+        int[] starts = new int[index.distinctCount() + 1];
+        for (int row : rows) {
+            starts[index.sortKey(row, order.descending()) + 1]++;
+        }
+        for (int key = 0; key + 1 < starts.length; key++) {
+            starts[key + 1] += starts[key];
+        }
+        int[] sorted = new int[rows.length];
+        for (int row : rows) {
+            sorted[starts[index.sortKey(row, order.descending())]++] = row;
+        }
+        return sorted;
+    }
+
+    private record Filter(int col, Function<ColumnIndex, BitSet> rows) {
+    }
+
+    private record Order(int col, boolean descending) {
+    }
+}
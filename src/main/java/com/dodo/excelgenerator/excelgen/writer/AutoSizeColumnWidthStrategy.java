@@ -0,0 +1,44 @@
+package com.dodo.excelgenerator.excelgen.writer;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+
+import java.util.List;
+
+/**
+ * POI autoSizeColumn 기반 너비 계산 (기존 방식)
+ * - 모든 셀을 AWT 폰트로 측정하므로 행 x 열 만큼 느림
+ */
+public class AutoSizeColumnWidthStrategy implements ColumnWidthStrategy {
+
+    private final int minChars;
+    private final int maxChars;
+
+    public AutoSizeColumnWidthStrategy(int minChars, int maxChars) {
+        this.minChars = minChars;
+        this.maxChars = maxChars;
+    }
+
+    @Override
+    public ColumnWidths begin(Sheet sheet, List<String> headers, int expectedRows) {
+        // SXSSF 는 flush 된 행을 다시 볼 수 없으므로 자동 너비 계산용 추적을 미리 켜둠
+        if (sheet instanceof SXSSFSheet streamingSheet) {
+            streamingSheet.trackAllColumnsForAutoSizing();
+        }
+        int columnCount = headers.size();
+
+        return new ColumnWidths() {
+            @Override
+            public void accept(List<String> row) {
+            }
+
+            @Override
+            public void apply() {
+                for (int i = 0; i < columnCount; i++) {
+                    sheet.autoSizeColumn(i);
+                    ColumnWidthStrategy.setClampedWidth(sheet, i, sheet.getColumnWidth(i), minChars, maxChars);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.dodo.excelgenerator.excelgen.writer;
+
+import org.apache.poi.ss.usermodel.Sheet;
+
+import java.util.List;
+
+/**
+ * 컬럼 너비 계산 전략
+ * - sampled  : 샘플 행의 문자 길이로 추정 (기본값, SXSSF 에서도 동작)
+ * - autosize : POI autoSizeColumn (AWT 폰트 측정, 정확하지만 느림)
+ */
+public interface ColumnWidthStrategy {
+
+    /**
+     * 시트 하나에 대한 너비 계산 시작 - 데이터 행을 만들기 전에 호출
+     *
+     * @param expectedRows 예상 데이터 행 수 (모르면 0)
+     */
+    ColumnWidths begin(Sheet sheet, List<String> headers, int expectedRows);
+
+    /**
+     * 시트 하나의 너비 계산 상태
+     */
+    interface ColumnWidths {
+
+        /**
+         * 데이터 행 관찰 (행을 시트에 쓰는 순서대로 호출)
+         */
+        void accept(List<String> row);
+
+        /**
+         * 계산된 너비를 시트에 적용
+         */
+        void apply();
+    }
+
+    /**
+     * 최소/최대 너비 안으로 맞춰서 적용 (단위: 1/256 문자)
+     */
+    static void setClampedWidth(Sheet sheet, int col, int width, int minChars, int maxChars) {
+        int minWidth = minChars * 256;
+        int maxWidth = maxChars * 256;
+        sheet.setColumnWidth(col, Math.max(minWidth, Math.min(maxWidth, width)));
+    }
+}
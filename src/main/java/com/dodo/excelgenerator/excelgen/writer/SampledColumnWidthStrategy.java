@@ -0,0 +1,118 @@
+package com.dodo.excelgenerator.excelgen.writer;
+
+import org.apache.poi.ss.usermodel.Sheet;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 샘플 행의 문자 길이로 컬럼 너비 추정
+ * - 전체 행 대신 최대 sampleSize 개 행만 고르게 뽑아서 측정
+ * - 한글/한자/전각 문자는 2칸으로 계산
+ * - percentile 100 이면 최댓값, 95 면 상위 5% 긴 값은 무시
+ */
+public class SampledColumnWidthStrategy implements ColumnWidthStrategy {
+
+    private static final int PADDING_CHARS = 2;
+
+    private final int sampleSize;
+    private final int percentile;
+    private final int minChars;
+    private final int maxChars;
+
+    public SampledColumnWidthStrategy(int sampleSize, int percentile, int minChars, int maxChars) {
+        this.sampleSize = Math.max(1, sampleSize);
+        this.percentile = Math.max(1, Math.min(100, percentile));
+        this.minChars = minChars;
+        this.maxChars = maxChars;
+    }
+
+    @Override
+    public ColumnWidths begin(Sheet sheet, List<String> headers, int expectedRows) {
+        return new SampledWidths(sheet, headers, expectedRows);
+    }
+
+    /**
+     * 표시 너비 계산 (줄바꿈이 있으면 가장 긴 줄 기준)
+     */
+    static int displayWidth(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int max = 0;
+        int current = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\n') {
+                max = Math.max(max, current);
+                current = 0;
+            } else {
+                current += isWideChar(c) ? 2 : 1;
+            }
+        }
+        return Math.max(max, current);
+    }
+
+    /**
+     * 한글, 한자, 일본어, 전각 문자 여부
+     */
+    static boolean isWideChar(char c) {
+        return (c >= '\u1100' && c <= '\u115F')  // 한글 자모
+                || (c >= '\u2E80' && c <= '\u9FFF')  // CJK 부수, 기호, 가나, 호환 자모, 한자
+                || (c >= '\uAC00' && c <= '\uD7A3')  // 한글 음절
+                || (c >= '\uF900' && c <= '\uFAFF')  // CJK 호환 한자
+                || (c >= '\uFF01' && c <= '\uFF60')  // 전각 문자
+                || (c >= '\uFFE0' && c <= '\uFFE6');
+    }
+
+    private class SampledWidths implements ColumnWidths {
+
+        private final Sheet sheet;
+        private final int[] headerWidths;
+        private final int[][] samples;      // [열][샘플]
+        private final int stride;
+        private int seen;
+        private int sampled;
+
+        SampledWidths(Sheet sheet, List<String> headers, int expectedRows) {
+            this.sheet = sheet;
+            this.headerWidths = new int[headers.size()];
+            for (int i = 0; i < headers.size(); i++) {
+                headerWidths[i] = displayWidth(headers.get(i));
+            }
+            this.samples = new int[headers.size()][sampleSize];
+            // 전체 행 수를 알면 고르게 (올림 나눗셈 - 끝까지 닿도록), 모르면 앞에서부터 sampleSize 개
+            this.stride = Math.max(1, (expectedRows + sampleSize - 1) / sampleSize);
+        }
+
+        @Override
+        public void accept(List<String> row) {
+            if (sampled >= sampleSize || seen++ % stride != 0) {
+                return;
+            }
+            int columns = Math.min(samples.length, row.size());
+            for (int i = 0; i < columns; i++) {
+                samples[i][sampled] = displayWidth(row.get(i));
+            }
+            sampled++;
+        }
+
+        @Override
+        public void apply() {
+            for (int i = 0; i < samples.length; i++) {
+                int chars = Math.max(headerWidths[i], percentileWidth(samples[i])) + PADDING_CHARS;
+                ColumnWidthStrategy.setClampedWidth(sheet, i, chars * 256, minChars, maxChars);
+            }
+        }
+
+        private int percentileWidth(int[] widths) {
+            if (sampled == 0) {
+                return 0;
+            }
+            int[] sorted = Arrays.copyOf(widths, sampled);
+            Arrays.sort(sorted);
+            int idx = (int) Math.ceil(sampled * percentile / 100.0) - 1;
+            return sorted[Math.max(0, idx)];
+        }
+    }
+}
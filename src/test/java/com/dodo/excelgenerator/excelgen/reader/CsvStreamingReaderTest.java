@@ -0,0 +1,111 @@
+package com.dodo.excelgenerator.excelgen.reader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvStreamingReaderTest {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Charset CP949 = Charset.forName("x-windows-949");
+
+    private final CsvStreamingReader reader = new CsvStreamingReader();
+
+    @Test
+    @DisplayName("따옴표 안의 구분자/줄바꿈, \"\" 이스케이프, 빈 값")
+    void quotedValues() throws IOException {
+        String csv = "이름,메모,비고\r\n"
+                + "a,\"b,c\",\"d\"\"e\"\r\n"
+                + "\"여러\r\n줄\",x,\n"
+                + "\"\",,\"\"\"\"";
+
+        assertEquals(List.of(
+                List.of("이름", "메모", "비고"),
+                List.of("a", "b,c", "d\"e"),
+                List.of("여러\r\n줄", "x", ""),
+                List.of("", "", "\"")), read("a.csv", csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("읽기 버퍼(64K) 경계에 걸친 CRLF / 따옴표 값")
+    void recordsAcrossBufferBoundary() throws IOException {
+        // 경계 앞뒤 몇 글자씩 옮겨 가며 \r|\n, "|" 이 버퍼 끝과 다음 버퍼 처음에 나뉘는 경우를 모두 포함
+        for (int shift = -3; shift <= 3; shift++) {
+            String head = "h1,h2\r\n";
+            String plain = "x".repeat(BUFFER_SIZE - 1 + shift - head.length() - 2);
+            String csv = head + "a," + plain + "\r\n" + "\"q\"\"1\",b\r\n" + "c,d\r\n";
+            assertEquals(List.of(
+                    List.of("h1", "h2"),
+                    List.of("a", plain),
+                    List.of("q\"1", "b"),
+                    List.of("c", "d")), read("a.csv", csv.getBytes(StandardCharsets.US_ASCII)), "CRLF shift " + shift);
+
+            String quoted = "y".repeat(BUFFER_SIZE - 1 + shift - head.length() - 1);
+            csv = head + "\"" + quoted + "\"\"z\r\n\",e\r\n" + "f,g";
+            assertEquals(List.of(
+                    List.of("h1", "h2"),
+                    List.of(quoted + "\"z\r\n", "e"),
+                    List.of("f", "g")), read("a.csv", csv.getBytes(StandardCharsets.US_ASCII)), "quote shift " + shift);
+        }
+    }
+
+    @Test
+    @DisplayName("BOM 없는 CP949 파일")
+    void cp949() throws IOException {
+        String csv = "이름,부서\r\n홍길동,영업\r\n김철수,개발\r\n";
+
+        assertEquals(List.of(
+                List.of("이름", "부서"),
+                List.of("홍길동", "영업"),
+                List.of("김철수", "개발")), read("a.csv", csv.getBytes(CP949)));
+    }
+
+    @Test
+    @DisplayName("BOM 이 있는 UTF-8 파일, 확장자가 없으면 첫 줄로 구분자 결정")
+    void utf8WithBom() throws IOException {
+        byte[] body = "이름\t부서\n홍길동\t영업\n".getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[body.length + 3];
+        bytes[0] = (byte) 0xEF;
+        bytes[1] = (byte) 0xBB;
+        bytes[2] = (byte) 0xBF;
+        System.arraycopy(body, 0, bytes, 3, body.length);
+
+        assertEquals(List.of(
+                List.of("이름", "부서"),
+                List.of("홍길동", "영업")), read("data", bytes));
+    }
+
+    @Test
+    @DisplayName("앞부분은 UTF-8 인데 뒤에 CP949 가 섞이면 깨진 값 대신 IOException")
+    void rejectsNonUtf8AfterSniffedHead() {
+        StringBuilder head = new StringBuilder("id,name\n");
+        for (int i = 0; head.length() <= BUFFER_SIZE; i++) {
+            head.append(i).append(",name").append(i).append('\n');
+        }
+        byte[] utf8 = head.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] cp949 = "1,홍길동\n".getBytes(CP949);
+        byte[] bytes = new byte[utf8.length + cp949.length];
+        System.arraycopy(utf8, 0, bytes, 0, utf8.length);
+        System.arraycopy(cp949, 0, bytes, utf8.length, cp949.length);
+
+        IOException e = assertThrows(IOException.class, () -> read("a.csv", bytes));
+        assertInstanceOf(CharacterCodingException.class, e.getCause());
+    }
+
+    private List<List<String>> read(String fileName, byte[] content) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        reader.read(new MockMultipartFile("file", fileName, null, content), (rowIdx, row) -> rows.add(row.toList()));
+        return rows;
+    }
+}
@@ -0,0 +1,52 @@
+package com.dodo.excelgenerator.excelgen.reader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SheetSelectionTest {
+
+    private static final List<String> SHEETS = List.of("요약", "2023-2024", "2024", "2024-01", "2024-02");
+
+    @Test
+    @DisplayName("비우면 첫 시트, * 전체, 번호 목록은 1부터")
+    void basicSelections() {
+        assertEquals(List.of(0), SheetSelection.parse("").select(SHEETS));
+        assertEquals(List.of(0, 1, 2, 3, 4), SheetSelection.parse("*").select(SHEETS));
+        assertEquals(List.of(0, 2, 3), SheetSelection.parse("1, 3-4").select(SHEETS));
+        assertEquals(List.of(3, 4), SheetSelection.parse("2024-0.*").select(SHEETS));
+    }
+
+    @Test
+    @DisplayName("name: 으로 시작하면 이름 그대로 - 숫자로 된 이름도 선택 가능")
+    void namePrefix() {
+        assertEquals(List.of(2), SheetSelection.parse("name:2024").select(SHEETS));
+        assertEquals(List.of(1), SheetSelection.parse("name:2023-2024").select(SHEETS));
+        assertEquals(List.of(), SheetSelection.parse("name:2024-.*").select(SHEETS));
+    }
+
+    @Test
+    @DisplayName("번호로 볼 수 없는 숫자 목록은 이름 그대로")
+    void invalidIndexesAreNames() {
+        assertEquals(List.of(3), SheetSelection.parse("2024-01").select(SHEETS));
+        assertEquals(List.of(), SheetSelection.parse("20240101").select(SHEETS));
+    }
+
+    @Test
+    @DisplayName("번호가 시트 수를 넘고 같은 이름의 시트가 있으면 그 시트")
+    void indexesFallBackToName() {
+        assertEquals(List.of(2), SheetSelection.parse("2024").select(SHEETS));
+        assertEquals(List.of(1), SheetSelection.parse("2023-2024").select(SHEETS));
+        assertEquals(List.of(1), SheetSelection.parse("2, 9").select(SHEETS));
+    }
+
+    @Test
+    @DisplayName("잘못된 정규식은 IllegalArgumentException")
+    void invalidPattern() {
+        assertThrows(IllegalArgumentException.class, () -> SheetSelection.parse("[2024"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.dodo.excelgenerator.excelgen.repository;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ExcelResponseDto;
+import com.dodo.excelgenerator.excelgen.table.ExcelTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExcelRepositoryTest {
+
+    private static final String KEY = "session";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("병합하는 동안 열 순서가 바뀌면 추가할 행도 바뀐 순서로 맞춤")
+    void appendRealignedAfterColumnMove() throws IOException {
+        ExcelRepository repository = repository();
+        repository.save(KEY, ExcelResponseDto.of(ExcelTable.of(List.of("이름", "금액"), List.of(List.of("a", "1"))), "a.xlsx"));
+        ExcelTable segment = mergedAgainst(repository);
+
+        repository.update(KEY, table -> table.moveColumn(0, 1));
+        repository.append(KEY, ExcelResponseDto.of(segment, "b.xlsx"));
+
+        ExcelTable stored = repository.findById(KEY).orElseThrow().getTable();
+        assertEquals(List.of("금액", "이름"), stored.getHeaders());
+        assertEquals(List.of(List.of("1", "a"), List.of("2", "b")), rows(stored));
+    }
+
+    @Test
+    @DisplayName("병합하는 동안 열이 추가되면 추가를 거절하고 저장된 데이터는 그대로")
+    void appendRejectedAfterColumnInsert() throws IOException {
+        ExcelRepository repository = repository();
+        repository.save(KEY, ExcelResponseDto.of(ExcelTable.of(List.of("이름", "금액"), List.of(List.of("a", "1"))), "a.xlsx"));
+        ExcelTable segment = mergedAgainst(repository);
+
+        repository.update(KEY, table -> table.insertColumn(2, "비고"));
+
+        assertThrows(IllegalStateException.class, () -> repository.append(KEY, ExcelResponseDto.of(segment, "b.xlsx")));
+        assertEquals(List.of(List.of("a", "1", "")), rows(repository.findById(KEY).orElseThrow().getTable()));
+    }
+
+    @Test
+    @DisplayName("파일로 내려가 있어도 바뀐 헤더 기준으로 비교")
+    void appendToSpilledAfterRename() throws IOException {
+        // 한도가 작아서 다른 데이터를 저장하면 파일로 내려감
+        ExcelRepository repository = repository(DataSize.ofBytes(1));
+        repository.save(KEY, ExcelResponseDto.of(ExcelTable.of(List.of("이름", "금액"), List.of(List.of("a", "1"))), "a.xlsx"));
+        ExcelTable segment = mergedAgainst(repository);
+
+        repository.update(KEY, table -> table.renameColumn(1, "단가"));
+        repository.save("other", ExcelResponseDto.of(ExcelTable.of(List.of("x"), List.of(List.of("big"))), "other.xlsx"));
+
+        assertEquals(1, repository.getSpilledCount());
+        assertThrows(IllegalStateException.class, () -> repository.append(KEY, ExcelResponseDto.of(segment, "b.xlsx")));
+    }
+
+    @Test
+    @DisplayName("행 구간은 잠금 안에서 바로 읽고, 스냅샷을 두 번 놓아도 다른 스냅샷의 공유는 유지")
+    void readAndRelease() throws IOException {
+        ExcelRepository repository = repository();
+        repository.save(KEY, ExcelResponseDto.of(ExcelTable.of(List.of("a"), List.of(List.of("1"), List.of("2"))), "a.xlsx"));
+        ExcelResponseDto reading = repository.findById(KEY).orElseThrow();
+        ExcelResponseDto done = repository.findById(KEY).orElseThrow();
+
+        int rowCount = repository.read(KEY, ExcelTable::getRowCount).orElseThrow();
+        repository.release(done);
+        repository.release(done);
+        repository.update(KEY, table -> table.set(0, 0, "10"));
+
+        assertEquals(2, rowCount);
+        assertEquals(List.of(List.of("1"), List.of("2")), rows(reading.getTable()));
+        assertEquals(List.of(List.of("10"), List.of("2")), repository.read(KEY, ExcelRepositoryTest::rows).orElseThrow());
+    }
+
+    private ExcelRepository repository() throws IOException {
+        return repository(DataSize.ofMegabytes(16));
+    }
+
+    private ExcelRepository repository(DataSize memoryBudget) throws IOException {
+        ExcelProperties properties = new ExcelProperties();
+        properties.getStore().setSpillDir(dir.toString());
+        properties.getStore().setMemoryBudget(memoryBudget);
+        return new ExcelRepository(properties);
+    }
+
+    /**
+     * 업로드 병합처럼 조회 시점 헤더를 기준으로 새 행을 만듦
+     */
+    private static ExcelTable mergedAgainst(ExcelRepository repository) {
+        ExcelResponseDto base = repository.findById(KEY).orElseThrow();
+        ExcelTable segment = new ExcelTable(base.getHeaders());
+        segment.appendRow(List.of("b", "2"));
+        return segment;
+    }
+
+    private static List<List<String>> rows(ExcelTable table) {
+        List<List<String>> rows = new ArrayList<>();
+        for (List<String> row : table.rows()) {
+            rows.add(new ArrayList<>(row));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,125 @@
+package com.dodo.excelgenerator.excelgen.service;
+
+import com.dodo.excelgenerator.excelgen.config.ExcelConfig;
+import com.dodo.excelgenerator.excelgen.config.ExcelProperties;
+import com.dodo.excelgenerator.excelgen.dto.ExcelPatchDto;
+import com.dodo.excelgenerator.excelgen.dto.ExcelPatchDto.OperationType;
+import com.dodo.excelgenerator.excelgen.metrics.ExcelMetrics;
+import com.dodo.excelgenerator.excelgen.reader.CsvStreamingReader;
+import com.dodo.excelgenerator.excelgen.reader.XlsxStreamingReader;
+import com.dodo.excelgenerator.excelgen.table.ExcelTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExcelServiceTest {
+
+    private final ExcelService excelService = excelService();
+
+    @Test
+    @DisplayName("수정 목록을 순서대로 반영 - 번호는 앞선 수정이 반영된 상태 기준")
+    void applyPatch() {
+        ExcelTable table = table();
+
+        excelService.applyPatch(table, List.of(
+                op(OperationType.INSERT_ROW, 2, 0, List.of("c", "3")),
+                op(OperationType.SET, 2, 1, "30"),
+                op(OperationType.ADD_COLUMN, 0, 2, "비고"),
+                op(OperationType.SET, 0, 2, "메모"),
+                op(OperationType.MOVE_COLUMN, 0, 2, 0),
+                op(OperationType.DELETE_ROW, 1, 0, 0),
+                op(OperationType.RENAME_COLUMN, 0, 0, "참고")));
+
+        assertEquals(List.of("참고", "이름", "금액"), table.getHeaders());
+        assertEquals(List.of(
+                List.of("메모", "a", "1"),
+                List.of("", "c", "30")), rows(table));
+    }
+
+    @Test
+    @DisplayName("뒤쪽 수정이 잘못되면 앞쪽 수정도 반영하지 않음")
+    void invalidPatchLeavesTableUntouched() {
+        ExcelTable table = table();
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> excelService.applyPatch(table, List.of(
+                        op(OperationType.SET, 0, 0, "x"),
+                        op(OperationType.DELETE_COLUMN, 0, 1, 0),
+                        op(OperationType.RENAME_COLUMN, 0, 1, "금액2"))));
+
+        assertEquals(true, e.getMessage().startsWith("3번째 수정(RENAME_COLUMN)"), e.getMessage());
+        assertEquals(List.of("이름", "금액"), table.getHeaders());
+        assertEquals(List.of(List.of("a", "1"), List.of("b", "2")), rows(table));
+    }
+
+    @Test
+    @DisplayName("삽입한 행 / 삭제로 줄어든 행 수 기준으로 검사")
+    void validatesAgainstSimulatedShape() {
+        ExcelTable table = table();
+
+        excelService.applyPatch(table, List.of(
+                op(OperationType.INSERT_ROW, 2, 0, List.of("c", "3", "추가")),
+                op(OperationType.SET, 2, 2, "값")));
+        assertEquals(List.of("a", "1", ""), rows(table).get(0));
+        assertEquals(List.of("c", "3", "값"), rows(table).get(2));
+
+        assertThrows(IllegalArgumentException.class, () -> excelService.applyPatch(table, List.of(
+                op(OperationType.DELETE_ROW, 0, 0, 0),
+                op(OperationType.SET, 2, 0, "x"))));
+        assertEquals(3, table.getRowCount());
+    }
+
+    @Test
+    @DisplayName("종류가 없는 수정은 거부")
+    void rejectsMissingType() {
+        ExcelTable table = table();
+
+        assertThrows(IllegalArgumentException.class, () -> excelService.applyPatch(table, List.of(
+                op(OperationType.SET, 0, 0, "x"),
+                new ExcelPatchDto.Operation())));
+        assertEquals("a", table.get(0, 0));
+    }
+
+    private static ExcelTable table() {
+        return ExcelTable.of(List.of("이름", "금액"), List.of(
+                List.of("a", "1"),
+                List.of("b", "2")));
+    }
+
+    private static ExcelPatchDto.Operation op(OperationType type, int row, int col, String value) {
+        return new ExcelPatchDto.Operation(type, row, col, 0, value, value, null);
+    }
+
+    private static ExcelPatchDto.Operation op(OperationType type, int row, int col, int to) {
+        return new ExcelPatchDto.Operation(type, row, col, to, null, null, null);
+    }
+
+    private static ExcelPatchDto.Operation op(OperationType type, int row, int col, List<String> values) {
+        return new ExcelPatchDto.Operation(type, row, col, 0, null, null, values);
+    }
+
+    private static List<List<String>> rows(ExcelTable table) {
+        List<List<String>> rows = new ArrayList<>();
+        for (List<String> row : table.rows()) {
+            rows.add(new ArrayList<>(row));
+        }
+        return rows;
+    }
+
+    /**
+     * 스프링 컨텍스트 없이 서비스 생성 (설정은 ExcelProperties 기본값)
+     */
+    private static ExcelService excelService() {
+        ExcelProperties properties = new ExcelProperties();
+        return new ExcelService(new XlsxStreamingReader(), new CsvStreamingReader(),
+                new ParallelSheetParser(properties), new ParseResultCache(properties), properties,
+                new ExcelConfig().columnWidthStrategy(properties),
+                new ExcelMetrics(new SimpleMeterRegistry(), properties));
+    }
+}
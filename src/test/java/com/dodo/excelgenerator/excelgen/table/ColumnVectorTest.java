@@ -0,0 +1,171 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ColumnVectorTest {
+
+    @Test
+    @DisplayName("정수만 있으면 정수 컬럼, 값은 받은 문자열 그대로")
+    void longColumn() {
+        ColumnVector column = append(ColumnVector.empty(), "1", "", "-20", "9223372036854775807");
+
+        assertEquals(ColumnVector.ColumnType.LONG, column.type());
+        assertValues(column, "1", "", "-20", "9223372036854775807");
+    }
+
+    @Test
+    @DisplayName("정수 컬럼에 실수가 섞이면 실수 컬럼 - 정수였던 행은 정수 모양 그대로")
+    void longPromotedToDouble() {
+        ColumnVector column = append(ColumnVector.empty(), "100", "", "99.5", "-3", "1.0E10");
+
+        assertEquals(ColumnVector.ColumnType.DOUBLE, column.type());
+        assertValues(column, "100", "", "99.5", "-3", "1.0E10");
+    }
+
+    @Test
+    @DisplayName("실수 컬럼에 정수가 들어와도 실수 컬럼 유지")
+    void doubleAcceptsIntegers() {
+        ColumnVector column = append(ColumnVector.empty(), "0.5", "7", "");
+
+        assertEquals(ColumnVector.ColumnType.DOUBLE, column.type());
+        assertValues(column, "0.5", "7", "");
+    }
+
+    @Test
+    @DisplayName("double 로 정확히 표현할 수 없는 정수가 있으면 실수 대신 사전 문자열")
+    void inexactLongIsNotDouble() {
+        ColumnVector column = append(ColumnVector.empty(), "9007199254740993", "1.5");
+
+        assertEquals(ColumnVector.ColumnType.DICTIONARY, column.type());
+        assertValues(column, "9007199254740993", "1.5");
+    }
+
+    @Test
+    @DisplayName("되돌렸을 때 문자열이 달라지는 숫자는 문자열로 저장")
+    void nonCanonicalNumbersStayText() {
+        ColumnVector column = append(ColumnVector.empty(), "007", "+1", "1.50", "-0");
+
+        assertEquals(ColumnVector.ColumnType.DICTIONARY, column.type());
+        assertValues(column, "007", "+1", "1.50", "-0");
+    }
+
+    @Test
+    @DisplayName("불리언 컬럼")
+    void booleanColumn() {
+        ColumnVector column = append(ColumnVector.empty(), "true", "", "false");
+
+        assertEquals(ColumnVector.ColumnType.BOOLEAN, column.type());
+        assertValues(column, "true", "", "false");
+    }
+
+    @Test
+    @DisplayName("사전이 가득 차면 일반 문자열 컬럼")
+    void dictionaryPromotedToString() {
+        ColumnVector column = ColumnVector.empty();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i <= DictionaryColumn.MAX_DICTIONARY_SIZE; i++) {
+            column = append(column, "v" + i);
+            expected.add("v" + i);
+        }
+
+        assertEquals(ColumnVector.ColumnType.STRING, column.type());
+        assertValues(column, expected.toArray(String[]::new));
+    }
+
+    @Test
+    @DisplayName("타입별 수정/삽입/삭제 후에도 값 유지")
+    void setInsertRemove() {
+        String[][] samples = {
+                {"1", "2", "3"},
+                {"1.5", "2", "3.25"},
+                {"true", "false", "true"},
+                {"a", "b", "c"}
+        };
+        for (String[] values : samples) {
+            ColumnVector column = append(ColumnVector.empty(), values);
+            ColumnVector.ColumnType type = column.type();
+
+            column.trySet(0, "");
+            column.tryInsert(1, values[2]);
+            column.remove(3);
+
+            assertEquals(type, column.type());
+            assertValues(column, "", values[2], values[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 타입끼리 appendFrom 은 타입 유지, 다른 타입이면 승격")
+    void appendFrom() {
+        ColumnVector longs = append(ColumnVector.empty(), "1", "");
+        ColumnVector merged = longs.appendFrom(append(ColumnVector.empty(), "2", "3"), 2);
+        assertEquals(ColumnVector.ColumnType.LONG, merged.type());
+        assertValues(merged, "1", "", "2", "3");
+
+        merged = merged.appendFrom(append(ColumnVector.empty(), "4.5", ""), 2);
+        assertEquals(ColumnVector.ColumnType.DOUBLE, merged.type());
+        assertValues(merged, "1", "", "2", "3", "4.5", "");
+
+        merged = merged.appendFrom(append(ColumnVector.empty(), "x"), 1);
+        assertEquals(ColumnVector.ColumnType.DICTIONARY, merged.type());
+        assertValues(merged, "1", "", "2", "3", "4.5", "", "x");
+
+        ColumnVector words = append(ColumnVector.empty(), "a", "b");
+        ColumnVector more = append(ColumnVector.empty(), "b", "c", "a");
+        merged = words.appendFrom(more, 3);
+        assertEquals(ColumnVector.ColumnType.DICTIONARY, merged.type());
+        assertValues(merged, "a", "b", "b", "c", "a");
+
+        ColumnVector booleans = append(ColumnVector.empty(), "true");
+        merged = booleans.appendFrom(append(ColumnVector.empty(), "", "false"), 2);
+        assertEquals(ColumnVector.ColumnType.BOOLEAN, merged.type());
+        assertValues(merged, "true", "", "false");
+    }
+
+    @Test
+    @DisplayName("appendFrom 중에 사전이 가득 차면 일반 문자열 컬럼으로 나머지 추가")
+    void appendFromDictionaryOverflow() {
+        ColumnVector left = ColumnVector.empty();
+        ColumnVector right = ColumnVector.empty();
+        List<String> expected = new ArrayList<>();
+        int half = DictionaryColumn.MAX_DICTIONARY_SIZE / 2 + 10;
+        for (int i = 0; i < half; i++) {
+            left = append(left, "l" + i);
+            expected.add("l" + i);
+        }
+        for (int i = 0; i < half; i++) {
+            right = append(right, "r" + i);
+            expected.add("r" + i);
+        }
+
+        ColumnVector merged = left.appendFrom(right, half);
+
+        assertEquals(ColumnVector.ColumnType.STRING, merged.type());
+        assertValues(merged, expected.toArray(String[]::new));
+    }
+
+    /**
+     * 값 추가 (담을 수 없으면 승격) - ExcelTable 과 같은 방식
+     */
+    private static ColumnVector append(ColumnVector column, String... values) {
+        for (String value : values) {
+            while (!column.tryAppend(value)) {
+                column = column.promote(value);
+            }
+        }
+        return column;
+    }
+
+    private static void assertValues(ColumnVector column, String... expected) {
+        assertEquals(expected.length, column.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], column.get(i), "row " + i);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExcelTableTest {
+
+    @Test
+    @DisplayName("스냅샷은 이후 수정/추가/합치기의 영향을 받지 않음")
+    void snapshotIsolatedFromUpdates() {
+        ExcelTable table = ExcelTable.of(List.of("이름", "금액"), List.of(
+                List.of("a", "1"),
+                List.of("b", "2"),
+                List.of("c", "3")));
+        table.appendSegment(ExcelTable.of(List.of("이름", "금액"), List.of(List.of("d", "4"))));
+        ExcelTable snapshot = table.snapshot();
+        List<List<String>> before = rows(snapshot);
+
+        table.set(0, 1, "1.5");
+        table.insertRow(1, List.of("x", "9"));
+        table.deleteRow(3);
+        table.appendRow(List.of("e", "5"));
+        table.insertColumn(0, "번호");
+        table.moveColumn(1, 2);
+        table.renameColumn(0, "No");
+        table.compact();
+
+        assertEquals(before, rows(snapshot));
+        assertEquals(List.of("이름", "금액"), snapshot.getHeaders());
+        assertEquals(List.of(
+                List.of("", "1.5", "a"),
+                List.of("", "9", "x"),
+                List.of("", "2", "b"),
+                List.of("", "4", "d"),
+                List.of("", "5", "e")), rows(table));
+    }
+
+    @Test
+    @DisplayName("스냅샷을 여러 번 떠도 각자 그 시점 값")
+    void snapshotsPerVersion() {
+        ExcelTable table = ExcelTable.of(List.of("a"), List.of(List.of("1"), List.of("2")));
+        ExcelTable first = table.snapshot();
+        table.set(0, 0, "10");
+        ExcelTable second = table.snapshot();
+        table.set(1, 0, "20");
+
+        assertEquals(List.of(List.of("1"), List.of("2")), rows(first));
+        assertEquals(List.of(List.of("10"), List.of("2")), rows(second));
+        assertEquals(List.of(List.of("10"), List.of("20")), rows(table));
+    }
+
+    @Test
+    @DisplayName("다 읽은 스냅샷을 놓으면 다음 수정은 복사 없이 제자리에서, 아직 읽는 스냅샷이 있으면 복사")
+    void releasedSnapshotStopsCopyOnWrite() {
+        ExcelTable table = ExcelTable.of(List.of("a"), List.of(List.of("1"), List.of("2")));
+        ColumnVector column = table.columns().get(0);
+
+        table.snapshot().release();
+        table.set(0, 0, "10");
+        assertSame(column, table.columns().get(0));
+
+        ExcelTable reading = table.snapshot();
+        ExcelTable done = table.snapshot();
+        done.release();
+        done.release();
+        table.set(1, 0, "20");
+
+        assertNotSame(column, table.columns().get(0));
+        assertEquals(List.of(List.of("10"), List.of("2")), rows(reading));
+        assertEquals(List.of(List.of("10"), List.of("20")), rows(table));
+    }
+
+    @Test
+    @DisplayName("컬럼 순서를 바꿔서 추가 - 순열 밖의 컬럼은 같은 위치끼리")
+    void appendAllWithPermutation() {
+        ExcelTable table = ExcelTable.of(List.of("a", "b", "c"), List.of(List.of("1", "x", "true")));
+        ExcelTable other = ExcelTable.of(List.of("b", "a", "c"), List.of(List.of("y", "2.5", "false")));
+
+        table.appendAll(other, new int[]{1, 0});
+
+        assertEquals(List.of(
+                List.of("1", "x", "true"),
+                List.of("2.5", "y", "false")), rows(table));
+    }
+
+    @Test
+    @DisplayName("잠금 밖 합치기 - 기존 컬럼은 그대로, 그 사이 매단 구간은 합친 컬럼 뒤에 남음")
+    void compactionBuiltAside() {
+        ExcelTable table = ExcelTable.of(List.of("a", "b"), List.of(List.of("1", "x")));
+        table.appendSegment(ExcelTable.of(List.of("a", "b"), List.of(List.of("2.5", "y"))));
+        ExcelTable snapshot = table.snapshot();
+
+        ExcelTable.Compaction compaction = table.startCompaction();
+        table.appendSegment(ExcelTable.of(List.of("a", "b", "c"), List.of(List.of("3", "z", "new"))));
+        compaction.build();
+
+        assertTrue(table.finishCompaction(compaction));
+        assertEquals(1, table.getSegmentCount());
+        assertEquals(List.of(
+                List.of("1", "x", ""),
+                List.of("2.5", "y", ""),
+                List.of("3", "z", "new")), rows(table));
+        assertEquals(List.of(List.of("1", "x"), List.of("2.5", "y")), rows(snapshot));
+    }
+
+    @Test
+    @DisplayName("잡아 둔 뒤 수정되면 합친 결과를 버림 - 수정 내용 유지")
+    void compactionDiscardedAfterUpdate() {
+        ExcelTable table = ExcelTable.of(List.of("a"), List.of(List.of("1")));
+        table.appendSegment(ExcelTable.of(List.of("a"), List.of(List.of("2"))));
+
+        ExcelTable.Compaction compaction = table.startCompaction();
+        table.set(1, 0, "20");
+        compaction.build();
+
+        assertFalse(table.finishCompaction(compaction));
+        assertEquals(List.of(List.of("1"), List.of("20")), rows(table));
+    }
+
+    @Test
+    @DisplayName("합치기가 수정에 밀려 버려져도 남은 컬럼은 다시 제자리에서 고침 - 스냅샷이 잡고 있으면 복사")
+    void discardedCompactionReleasesColumns() {
+        ExcelTable table = ExcelTable.of(List.of("a", "b"), List.of(List.of("1", "x"), List.of("2", "y")));
+        ExcelTable.Compaction compaction = table.startCompaction();
+        table.set(0, 0, "10");
+        compaction.build();
+
+        assertFalse(table.finishCompaction(compaction));
+        ColumnVector untouched = table.columns().get(1);
+        table.set(0, 1, "z");
+        assertSame(untouched, table.columns().get(1));
+
+        ExcelTable snapshot = table.snapshot();
+        compaction = table.startCompaction();
+        table.set(1, 0, "20");
+        compaction.build();
+
+        assertFalse(table.finishCompaction(compaction));
+        table.set(1, 1, "w");
+        assertNotSame(untouched, table.columns().get(1));
+        assertEquals(List.of(List.of("10", "z"), List.of("2", "y")), rows(snapshot));
+        assertEquals(List.of(List.of("10", "z"), List.of("20", "w")), rows(table));
+    }
+
+    @Test
+    @DisplayName("행 고르기는 컬럼 타입 그대로 - 매달린 구간 포함, 원본은 그대로")
+    void selectKeepsColumnTypes() {
+        List<String> headers = List.of("정수", "금액", "여부", "코드", "이름");
+        ExcelTable table = new ExcelTable(headers);
+        for (int i = 0; i <= DictionaryColumn.MAX_DICTIONARY_SIZE; i++) {
+            table.appendRow(List.of(String.valueOf(i), i % 2 == 0 ? "100" : "0.5", "true", i == 0 ? "x" : "7", "이름" + i));
+        }
+        table.appendSegment(ExcelTable.of(headers, List.of(List.of("", "3", "false", "8", "끝"))));
+        int last = table.getRowCount() - 1;
+
+        ExcelTable selected = table.select(new int[]{last, 2, 1});
+
+        assertEquals(List.of(
+                List.of("", "3", "false", "8", "끝"),
+                List.of("2", "100", "true", "7", "이름2"),
+                List.of("1", "0.5", "true", "7", "이름1")), rows(selected));
+        assertEquals(List.of(ColumnVector.ColumnType.LONG, ColumnVector.ColumnType.DOUBLE, ColumnVector.ColumnType.BOOLEAN,
+                ColumnVector.ColumnType.DICTIONARY, ColumnVector.ColumnType.STRING), types(selected));
+        assertEquals(1, table.getSegmentCount());
+
+        table.retainRows(new int[]{1, 2});
+        assertEquals(types(selected), types(table));
+        assertEquals(List.of(List.of("1", "0.5", "true", "7", "이름1"), List.of("2", "100", "true", "7", "이름2")), rows(table));
+    }
+
+    private static List<ColumnVector.ColumnType> types(ExcelTable table) {
+        return table.columns().stream().map(ColumnVector::type).toList();
+    }
+
+    private static List<List<String>> rows(ExcelTable table) {
+        List<List<String>> rows = new ArrayList<>();
+        for (List<String> row : table.rows()) {
+            rows.add(new ArrayList<>(row));
+        }
+        return rows;
+    }
+}
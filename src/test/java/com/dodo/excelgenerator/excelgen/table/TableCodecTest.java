@@ -0,0 +1,64 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TableCodecTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("모든 컬럼 타입 + 매달린 구간을 기록하고 다시 읽으면 같은 값")
+    void roundTrip() throws IOException {
+        List<String> headers = List.of("정수", "금액", "여부", "부서", "이름");
+        ExcelTable table = ExcelTable.of(headers, List.of(
+                List.of("1", "100", "true", "영업", "홍길동"),
+                List.of("", "99.5", "", "", ""),
+                List.of("-7", "", "false", "개발", "김철수")));
+        ExcelTable segment = new ExcelTable(headers);
+        for (int i = 0; i < DictionaryColumn.MAX_DICTIONARY_SIZE + 10; i++) {
+            segment.appendRow(List.of(String.valueOf(i), i + ".25", "true", "영업", "이름" + i));
+        }
+        table.appendSegment(segment);
+
+        Path file = dir.resolve("table.xtb");
+        TableCodec.write(table, file);
+        ExcelTable read = TableCodec.read(file);
+
+        assertEquals(table.getHeaders(), read.getHeaders());
+        assertEquals(table.getRowCount(), read.getRowCount());
+        assertEquals(new ArrayList<>(table.rows()), new ArrayList<>(read.rows()));
+    }
+
+    @Test
+    @DisplayName("빈 테이블")
+    void emptyTable() throws IOException {
+        Path file = dir.resolve("empty.xtb");
+        TableCodec.write(new ExcelTable(List.of("a", "b")), file);
+
+        ExcelTable read = TableCodec.read(file);
+
+        assertEquals(List.of("a", "b"), read.getHeaders());
+        assertEquals(0, read.getRowCount());
+    }
+
+    @Test
+    @DisplayName("다른 형식의 파일은 IOException")
+    void rejectsOtherFiles() throws IOException {
+        Path file = dir.resolve("other.xtb");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThrows(IOException.class, () -> TableCodec.read(file));
+    }
+}
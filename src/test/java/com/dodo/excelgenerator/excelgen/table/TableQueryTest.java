@@ -0,0 +1,107 @@
+package com.dodo.excelgenerator.excelgen.table;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableQueryTest {
+
+    private static ExcelTable table() {
+        return ExcelTable.of(List.of("이름", "부서", "금액"), List.of(
+                List.of("a", "영업", "100"),
+                List.of("b", "개발", "20"),
+                List.of("c", "영업", "100"),
+                List.of("d", "개발", ""),
+                List.of("e", "영업", "3.5"),
+                List.of("f", "", "7")));
+    }
+
+    @Test
+    @DisplayName("필터 → 중복 제거 → 정렬 순서로 적용")
+    void filterDistinctSort() {
+        int[] rows = TableQuery.on(table())
+                .where(2, TableQuery.compared("5", c -> c > 0))
+                .distinct(1, 2)
+                .orderBy(2, false)
+                .rows();
+
+        assertArrayEquals(new int[]{5, 1, 0}, rows);
+    }
+
+    @Test
+    @DisplayName("정렬 - 숫자(크기순) → 문자(대소문자 무시) → 빈 값, 내림차순이어도 빈 값은 마지막")
+    void sortOrder() {
+        ExcelTable table = ExcelTable.of(List.of("v"), List.of(
+                List.of("10"), List.of("9"), List.of("x"), List.of(""), List.of("B"), List.of("a")));
+
+        assertArrayEquals(new int[]{1, 0, 5, 4, 2, 3}, TableQuery.on(table).orderBy(0, false).rows());
+        assertArrayEquals(new int[]{2, 4, 5, 0, 1, 3}, TableQuery.on(table).orderBy(0, true).rows());
+    }
+
+    @Test
+    @DisplayName("같은 키는 원래 순서 유지, 앞 키가 우선")
+    void stableMultiKeySort() {
+        int[] rows = TableQuery.on(table())
+                .orderBy(1, false)
+                .orderBy(2, true)
+                .rows();
+
+        // 부서: 개발 → 영업 → 빈 값, 같은 부서는 금액 내림차순 (빈 금액은 마지막), 같은 금액은 행 순서
+        assertArrayEquals(new int[]{1, 3, 0, 2, 4, 5}, rows);
+    }
+
+    @Test
+    @DisplayName("같음 필터는 정확히 같은 값만, 조건 여러 개는 모두 만족")
+    void equalsFilter() {
+        ExcelTable table = table();
+
+        assertArrayEquals(new int[]{0, 2, 4}, TableQuery.on(table).whereEquals(1, "영업").rows());
+        assertArrayEquals(new int[]{0, 2}, TableQuery.on(table)
+                .whereEquals(1, "영업")
+                .whereEquals(2, "100")
+                .rows());
+        assertArrayEquals(new int[0], TableQuery.on(table).whereEquals(2, "100.0").rows());
+    }
+
+    @Test
+    @DisplayName("수정하면 색인을 다시 만들어 새 값으로 조회")
+    void indexRebuiltAfterUpdate() {
+        ExcelTable table = table();
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5}, TableQuery.on(table).orderBy(0, false).rows());
+
+        table.set(0, 0, "z");
+
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 0}, TableQuery.on(table).orderBy(0, false).rows());
+    }
+
+    @Test
+    @DisplayName("결과 행만 남기기 - 헤더 유지, 이전 스냅샷은 그대로")
+    void retainRows() {
+        ExcelTable table = table();
+        ExcelTable snapshot = table.snapshot();
+        int[] rows = TableQuery.on(table).whereEquals(1, "개발").orderBy(0, true).rows();
+
+        table.retainRows(rows);
+
+        assertEquals(List.of("이름", "부서", "금액"), table.getHeaders());
+        assertEquals(List.of(List.of("d", "개발", ""), List.of("b", "개발", "20")), List.copyOf(table.rows()));
+        assertEquals(6, snapshot.getRowCount());
+        assertEquals("a", snapshot.get(0, 0));
+    }
+
+    @Test
+    @DisplayName("만든 색인은 테이블 크기 추정에 포함")
+    void indexCountedInEstimatedBytes() {
+        ExcelTable table = table();
+        long before = table.estimatedBytes();
+
+        TableQuery.on(table).orderBy(0, false).rows();
+
+        assertTrue(table.estimatedBytes() > before);
+    }
+}